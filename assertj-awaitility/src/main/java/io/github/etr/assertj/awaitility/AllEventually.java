@@ -0,0 +1,138 @@
+package io.github.etr.assertj.awaitility;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ObjectAssert;
+import org.awaitility.core.ConditionTimeoutException;
+import org.awaitility.pollinterval.PollInterval;
+
+/**
+ * Waits for several eventual assertions at once, in a single polling loop with a shared timeout.
+ * This way, the total wait is given by the slowest assertion, instead of the sum of all of them.
+ *
+ * <p>Once an assertion passes, it is not evaluated again. If some of them are still failing when the timeout is
+ * reached, all their failures are reported together.
+ *
+ * Example usage:
+ * <pre>{@code
+ * allEventually()
+ *     .that(legolas, it -> it.hasFieldOrPropertyWithValue("age", 555))
+ *     .that(gimli, it -> it.hasFieldOrPropertyWithValue("age", 139))
+ *     .within(5, SECONDS)
+ *     .await();
+ * }</pre>
+ */
+public final class AllEventually {
+
+    private final AssertjAndAwaitility.EventualCondition.Builder<Object> settings =
+            new AssertjAndAwaitility.EventualCondition.Builder<>();
+    private final List<Check> assertions = new ArrayList<>();
+
+    AllEventually() {}
+
+    public <T> AllEventually that(T actual, Consumer<ObjectAssert<T>> assertion) {
+        assertions.add(lazyFailureMessages -> {
+            ObjectAssert<T> check = Assertions.assertThat(actual);
+            if (lazyFailureMessages) {
+                check.withRepresentation(PlaceholderRepresentation.INSTANCE);
+            }
+            assertion.accept(check);
+        });
+        return this;
+    }
+
+    public AllEventually within(int amount, TimeUnit unit) {
+        settings.within(amount, unit);
+        return this;
+    }
+
+    public AllEventually checkingEvery(int amount, TimeUnit unit) {
+        settings.checkingEvery(amount, unit);
+        return this;
+    }
+
+    /**
+     * @see AssertjAndAwaitility.EventualCondition.Builder#checking(PollInterval)
+     */
+    public AllEventually checking(PollInterval strategy) {
+        settings.checking(strategy);
+        return this;
+    }
+
+    /**
+     * @see AssertjAndAwaitility.EventualCondition.Builder#withLazyFailureMessages()
+     */
+    public AllEventually withLazyFailureMessages() {
+        settings.withLazyFailureMessages();
+        return this;
+    }
+
+    /**
+     * @see AssertjAndAwaitility.EventualCondition.Builder#evaluatedOn(EvaluationMode)
+     */
+    public AllEventually evaluatedOn(EvaluationMode evaluationMode) {
+        settings.evaluatedOn(evaluationMode);
+        return this;
+    }
+
+    /**
+     * Waits until all the assertions pass.
+     *
+     * @throws org.awaitility.core.ConditionTimeoutException if some of them still fail when the timeout is reached,
+     *     having an {@link AssertionError} with all their failures as cause
+     */
+    public void await() {
+        Map<Integer, Check> pending = new LinkedHashMap<>();
+        for (int i = 0; i < assertions.size(); i++) {
+            pending.put(i, assertions.get(i));
+        }
+        boolean lazyFailureMessages = settings.lazyFailureMessages();
+        try {
+            settings.waiter().untilAsserted(() -> {
+                Map<String, AssertionError> failures = check(pending, lazyFailureMessages);
+                if (!failures.isEmpty()) {
+                    throw combined(failures);
+                }
+            });
+        } catch (ConditionTimeoutException timeout) {
+            if (!lazyFailureMessages) {
+                throw timeout;
+            }
+            // the pending assertions are checked once more, to report their failures with the usual representation
+            Map<String, AssertionError> failures = check(pending, false);
+            if (!failures.isEmpty()) {
+                throw Waiter.timedOut(timeout, combined(failures));
+            }
+        }
+    }
+
+    /**
+     * Checks the pending assertions, removing the ones which pass, and returns the failures of the other ones.
+     */
+    private static Map<String, AssertionError> check(Map<Integer, Check> pending, boolean lazyFailureMessages) {
+        Map<String, AssertionError> failures = new LinkedHashMap<>();
+        pending.entrySet().removeIf(assertion -> {
+            AssertionError failure = Waiter.evaluate(() -> assertion.getValue().run(lazyFailureMessages));
+            if (failure != null) {
+                failures.put("assertion #" + (assertion.getKey() + 1), failure);
+            }
+            return failure == null;
+        });
+        return failures;
+    }
+
+    private AssertionError combined(Map<String, AssertionError> failures) {
+        String summary = "%d of %d assertions failed:".formatted(failures.size(), assertions.size());
+        return CombinedFailures.combine(summary, failures, 0);
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        void run(boolean lazyFailureMessages);
+    }
+}
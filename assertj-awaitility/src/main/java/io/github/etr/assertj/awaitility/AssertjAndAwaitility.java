@@ -1,18 +1,50 @@
 package io.github.etr.assertj.awaitility;
 
+import java.beans.PropertyChangeSupport;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
 import org.assertj.core.api.ObjectAssert;
 import org.awaitility.Awaitility;
 import org.awaitility.core.ConditionFactory;
+import org.awaitility.core.ConditionTimeoutException;
+import org.awaitility.pollinterval.FixedPollInterval;
+import org.awaitility.pollinterval.PollInterval;
 
 public class AssertjAndAwaitility {
 
+    private static volatile EvaluationMode defaultEvaluationMode = EvaluationMode.DEDICATED_THREAD;
+
     private AssertjAndAwaitility() {}
 
+    /**
+     * Sets where the eventual conditions are evaluated, unless configured otherwise by their builder.
+     * By default, each await runs on its own thread, as in Awaitility.
+     *
+     * Example usage:
+     * <pre>{@code
+     * @BeforeAll
+     * static void setUp() {
+     *     AssertjAndAwaitility.setDefaultEvaluationMode(EvaluationMode.CALLER_THREAD);
+     * }
+     * }</pre>
+     *
+     * @param evaluationMode the evaluation mode to use by default
+     */
+    public static void setDefaultEvaluationMode(EvaluationMode evaluationMode) {
+        defaultEvaluationMode = Objects.requireNonNull(evaluationMode);
+    }
+
     /**
      * Creates a builder for an eventual condition.
      * This method is used to define conditions that are expected to be met eventually,
@@ -48,7 +80,81 @@ public class AssertjAndAwaitility {
      * @return an eventual condition for the specified test
      */
     public static <T> UtilitestCondition<T> eventually(Consumer<ObjectAssert<T>> test) {
-        return new EventualCondition<>(test);
+        return new EventualCondition.Builder<T>().goingTo(test);
+    }
+
+    /**
+     * Starts checking the provided test in the background, without blocking the current thread.
+     * This allows firing many independent eventual checks and joining them once.
+     *
+     * Example usage:
+     * <pre>{@code
+     * CompletableFuture.allOf(
+     *         eventuallyAsync(legolas, it -> it.hasFieldOrPropertyWithValue("age", 555)),
+     *         eventuallyAsync(gimli, it -> it.hasFieldOrPropertyWithValue("age", 139)))
+     *     .join();
+     * }</pre>
+     *
+     * @param <T> the type of the object being tested
+     * @param actual the object being tested
+     * @param test a consumer that performs assertions on the object
+     * @return a future completing once the test passes, or failing with its last {@link AssertionError} at timeout
+     */
+    public static <T> CompletableFuture<Void> eventuallyAsync(T actual, Consumer<ObjectAssert<T>> test) {
+        return new EventualCondition.Builder<>().goingToAsync(actual, test);
+    }
+
+    /**
+     * Creates an eventual condition, checking that each element of an iterable satisfies the provided test.
+     * Once an element passes the test, it is not checked again.
+     *
+     * Example usage:
+     * <pre>{@code
+     * assertThat(elves)
+     *     .is(eventuallyEach(it -> it.hasFieldOrPropertyWithValue("age", 555)));
+     * }</pre>
+     *
+     * @param <E> the type of the elements being tested
+     * @param test a consumer that performs assertions on each element
+     * @return an eventual condition for the elements of an iterable
+     */
+    public static <E> UtilitestCondition<Iterable<? extends E>> eventuallyEach(Consumer<ObjectAssert<E>> test) {
+        return new EventualCondition.Builder<>().eachGoingTo(test);
+    }
+
+    /**
+     * Creates a builder for several eventual assertions, which are awaited together, in a single polling loop.
+     *
+     * Example usage:
+     * <pre>{@code
+     * allEventually()
+     *     .that(legolas, it -> it.hasFieldOrPropertyWithValue("age", 555))
+     *     .that(gimli, it -> it.hasFieldOrPropertyWithValue("age", 139))
+     *     .await();
+     * }</pre>
+     *
+     * @return a builder for awaiting several assertions at once
+     */
+    public static AllEventually allEventually() {
+        return new AllEventually();
+    }
+
+    /**
+     * Creates a builder for a condition which must keep holding for a given duration.
+     *
+     * Example usage:
+     * <pre>{@code
+     * assertThat(legolas)
+     *     .is(consistently()
+     *         .during(5, SECONDS)
+     *         .goingTo(it -> it.hasFieldOrPropertyWithValue("age", 555)));
+     * }</pre>
+     *
+     * @param <T> the type of the object being tested
+     * @return a builder for creating a consistent condition
+     */
+    public static <T> Consistently<T> consistently() {
+        return new Consistently<>();
     }
 
     /**
@@ -81,7 +187,7 @@ public class AssertjAndAwaitility {
         public UtilitestCondition<T> eventually() {
             return switch (this) {
                 case EventualCondition<T> __ -> this;
-                case PromptCondition<T> __ -> new EventualCondition<>(this.test);
+                case PromptCondition<T> __ -> new EventualCondition.Builder<T>().matching(this.test);
             };
         }
     }
@@ -105,43 +211,316 @@ public class AssertjAndAwaitility {
 
     public static final class EventualCondition<T> extends UtilitestCondition<T> {
         EventualCondition(Consumer<ObjectAssert<T>> test) {
-            this(consumerToPredicate(test));
+            this(consumerToPredicate(test), new Builder<T>().waiter());
         }
 
         EventualCondition(Predicate<T> test) {
-            super(eventually(test), "custom eventual condition");
+            this(test, new Builder<T>().waiter());
+        }
+
+        private EventualCondition(Predicate<T> test, Waiter waiter) {
+            this(test, test, waiter);
+        }
+
+        private EventualCondition(Predicate<T> test, Predicate<T> finalTest, Waiter waiter) {
+            this(eventually(test, finalTest, waiter), "custom eventual condition");
+        }
+
+        private EventualCondition(Predicate<T> eventualTest, String description) {
+            super(eventualTest, description);
         }
 
         private static <T> Predicate<T> consumerToPredicate(Consumer<ObjectAssert<T>> test) {
-            return eventually(actual -> {
+            return actual -> {
                 test.accept(Assertions.assertThat(actual));
                 return true;
-            });
+            };
+        }
+
+        private static <T> Predicate<T> consumerToCheapPredicate(Consumer<ObjectAssert<T>> test) {
+            return actual -> {
+                test.accept(Assertions.assertThat(actual).withRepresentation(PlaceholderRepresentation.INSTANCE));
+                return true;
+            };
         }
 
         public static <T> Predicate<T> eventually(Predicate<T> test) {
+            return eventually(test, new Builder<T>().waiter());
+        }
+
+        private static <T> Predicate<T> eventually(Predicate<T> test, Waiter waiter) {
+            return eventually(test, test, waiter);
+        }
+
+        /**
+         * Waits until the test passes. If it times out, and the final test is a different one, the final test is run
+         * once more, to report its failure instead.
+         */
+        private static <T> Predicate<T> eventually(Predicate<T> test, Predicate<T> finalTest, Waiter waiter) {
             return actual -> {
-                Awaitility.await().untilAsserted(() -> test.test(actual));
+                try {
+                    waiter.untilAsserted(() -> test.test(actual));
+                } catch (ConditionTimeoutException timeout) {
+                    if (test == finalTest) {
+                        throw timeout;
+                    }
+                    AssertionError failure = Waiter.evaluate(() -> finalTest.test(actual));
+                    if (failure != null) {
+                        throw Waiter.timedOut(timeout, failure);
+                    }
+                }
                 return true;
             };
         }
 
+        /**
+         * Configures the timeout and the polling of an eventual condition.
+         * The settings which are not configured fall back to Awaitility's defaults.
+         *
+         * <p>Besides a fixed interval, we can use one of the {@link PollIntervals} strategies.
+         * These start polling right away, so conditions that are already met return immediately:
+         * <pre>{@code
+         * assertThat(legolas)
+         *     .is(eventually()
+         *         .within(5, SECONDS)
+         *         .checking(PollIntervals.fastThenSlow(Duration.ofMillis(1), 10, Duration.ofMillis(100)))
+         *         .goingTo(it -> it.hasFieldOrPropertyWithValue("age", 555)));
+         * }</pre>
+         */
         public static class Builder<T> {
-            private ConditionFactory await = Awaitility.await();
+            private Duration timeout;
+            private PollInterval pollInterval;
+            private Duration pollDelay;
+            private boolean lowLatency;
+            private EvaluationMode evaluationMode;
+            private boolean lazyFailureMessages;
+            private boolean parallelElements;
+            private final List<SignalWaiter.Signal> signals = new ArrayList<>();
 
             public UtilitestCondition<T> goingTo(Consumer<ObjectAssert<T>> test) {
-                return new EventualCondition<>(test);
+                if (lazyFailureMessages) {
+                    return new EventualCondition<>(consumerToCheapPredicate(test), consumerToPredicate(test), waiter());
+                }
+                return matching(consumerToPredicate(test));
+            }
+
+            /**
+             * Starts checking the test on the given object in the background, and returns immediately.
+             * The polls are scheduled by a shared scheduler, and evaluated on virtual threads, so no thread is
+             * blocked while waiting. The timeout and poll interval settings are honored, and the timeout defaults
+             * to Awaitility's default of 10 seconds.
+             *
+             * @return a future completing once the test passes, or failing with its last {@link AssertionError}
+             *     once the timeout is reached
+             */
+            public <R> CompletableFuture<Void> goingToAsync(R actual, Consumer<ObjectAssert<R>> test) {
+                Predicate<R> predicate = consumerToPredicate(test);
+                return new AsyncWaiter(timeout, pollInterval).untilAsserted(() -> predicate.test(actual));
+            }
+
+            /**
+             * Waits for a value which is fetched again on every poll, instead of a given object.
+             * The timeout and polling settings must be configured before calling this method.
+             *
+             * @see Fetching
+             */
+            public <R> Fetching<R> fetching(Supplier<? extends R> supplier) {
+                return new Fetching<>(supplier, waiter(), lazyFailureMessages);
+            }
+
+            /**
+             * Subscribes to the publisher, and evaluates the assertion against the received elements whenever new
+             * ones arrive. The timeout must be configured before calling this method.
+             *
+             * @see Emitting
+             */
+            public <R> Emitting<R> emitting(Flow.Publisher<? extends R> publisher) {
+                return new Emitting<>(publisher, signal -> {
+                    // the signal only belongs to this condition, so the builder can be reused
+                    List<SignalWaiter.Signal> conditionSignals = new ArrayList<>(signals);
+                    conditionSignals.add(signal);
+                    return waiter(conditionSignals);
+                });
+            }
+
+            /**
+             * Creates a condition checking that each element of an iterable eventually passes the test.
+             * Once an element passes, it is not checked again.
+             *
+             * @see #checkingElementsInParallel()
+             */
+            public <E> UtilitestCondition<Iterable<? extends E>> eachGoingTo(Consumer<ObjectAssert<E>> test) {
+                Predicate<E> finalTest = consumerToPredicate(test);
+                Predicate<E> eachTest = lazyFailureMessages ? consumerToCheapPredicate(test) : finalTest;
+                return new EventualCondition<>(
+                        EventuallyEach.eventuallyEach(eachTest, finalTest, waiter(), parallelElements),
+                        "custom eventual condition for each element");
+            }
+
+            /**
+             * Checks the pending elements of an {@link #eachGoingTo each} condition in parallel, using the common
+             * fork-join pool.
+             */
+            public Builder<T> checkingElementsInParallel() {
+                this.parallelElements = true;
+                return this;
+            }
+
+            UtilitestCondition<T> matching(Predicate<T> test) {
+                return new EventualCondition<>(test, waiter());
             }
 
             public Builder<T> checkingEvery(int amount, TimeUnit unit) {
-                await = await.pollInterval(amount, unit);
+                return checking(new FixedPollInterval(amount, unit));
+            }
+
+            /**
+             * Polls the condition at the intervals given by the strategy, starting right away.
+             *
+             * @see PollIntervals
+             */
+            public Builder<T> checking(PollInterval strategy) {
+                this.pollInterval = strategy;
+                this.pollDelay = strategy instanceof FixedPollInterval ? null : Duration.ZERO;
                 return this;
             }
 
             public Builder<T> within(int amount, TimeUnit unit) {
-                await = await.timeout(amount, unit);
+                this.timeout = Duration.of(amount, unit.toChronoUnit());
+                return this;
+            }
+
+            /**
+             * Renders the objects as placeholders in the failures of the intermediate polls, which are never shown,
+             * instead of calling their {@code toString}. If the condition times out, it is evaluated once more,
+             * with the usual representation, to report the actual failure.
+             *
+             * <p>This saves CPU time and garbage when waiting for large objects. However, the assertion is evaluated
+             * one more time, so it should not have any side effects.
+             *
+             * <p>It applies to {@link #goingTo}, {@link #eachGoingTo}, {@link #fetching} and
+             * {@link AllEventually#withLazyFailureMessages() allEventually()}, but not to {@link #goingToAsync} and
+             * {@link #emitting}, whose failures are always rendered in full.
+             */
+            public Builder<T> withLazyFailureMessages() {
+                this.lazyFailureMessages = true;
                 return this;
             }
+
+            boolean lazyFailureMessages() {
+                return lazyFailureMessages;
+            }
+
+            /**
+             * Sets where the condition is evaluated, instead of the {@link #setDefaultEvaluationMode default}.
+             * Low latency and signal-driven conditions are always evaluated on the caller thread.
+             */
+            public Builder<T> evaluatedOn(EvaluationMode evaluationMode) {
+                this.evaluationMode = Objects.requireNonNull(evaluationMode);
+                return this;
+            }
+
+            /**
+             * Evaluates the condition on the caller thread, spinning at first, then yielding, and then parking
+             * for growing intervals. This detects conditions met within microseconds, which Awaitility cannot poll
+             * for, without creating any threads. The poll interval settings are ignored, and the timeout defaults
+             * to Awaitility's default of 10 seconds. It has no effect on conditions waking on signals.
+             */
+            public Builder<T> withLowLatency() {
+                this.lowLatency = true;
+                return this;
+            }
+
+            /**
+             * Re-evaluates the condition as soon as the given stage completes. Otherwise, the condition is
+             * checked at the configured poll interval, or every 100 ms by default.
+             */
+            public Builder<T> wakingOn(CompletionStage<?> stage) {
+                signals.add(SignalWaiter.Signal.of(stage));
+                return this;
+            }
+
+            /**
+             * Re-evaluates the condition whenever the publisher emits an item, completes or fails. Otherwise, the
+             * condition is checked at the configured poll interval, or every 100 ms by default.
+             */
+            public Builder<T> wakingOn(Flow.Publisher<?> publisher) {
+                signals.add(SignalWaiter.Signal.of(publisher));
+                return this;
+            }
+
+            /**
+             * Re-evaluates the condition whenever a property change is fired. Otherwise, the condition is checked
+             * at the configured poll interval, or every 100 ms by default.
+             */
+            public Builder<T> wakingOn(PropertyChangeSupport propertyChanges) {
+                signals.add(SignalWaiter.Signal.of(propertyChanges));
+                return this;
+            }
+
+            /**
+             * Re-evaluates the condition whenever the code under test runs the callback it was given.
+             * Otherwise, the condition is checked at the configured poll interval, or every 100 ms by default.
+             *
+             * <pre>{@code
+             * assertThat(legolas)
+             *     .is(eventually()
+             *         .wakingWhen(legolas::onBirthday)
+             *         .goingTo(it -> it.hasFieldOrPropertyWithValue("age", 555)));
+             * }</pre>
+             */
+            public Builder<T> wakingWhen(Consumer<Runnable> notifier) {
+                signals.add(SignalWaiter.Signal.notifiedBy(notifier));
+                return this;
+            }
+
+            Waiter waiter() {
+                return waiter(signals);
+            }
+
+            private Waiter waiter(List<SignalWaiter.Signal> signals) {
+                EventualTelemetry telemetry = EventualTelemetry.instance();
+                if (telemetry == null) {
+                    return waiter(signals, timeout, pollInterval);
+                }
+                String callSite = EventualTelemetry.callSite();
+                Duration calibratedTimeout = telemetry.timeout(callSite, timeout);
+                PollInterval calibratedPollInterval =
+                        pollInterval == null ? telemetry.pollInterval(callSite) : pollInterval;
+                return telemetry.recording(
+                        callSite,
+                        timeout,
+                        calibratedTimeout,
+                        waiter(signals, calibratedTimeout, calibratedPollInterval));
+            }
+
+            private Waiter waiter(List<SignalWaiter.Signal> signals, Duration timeout, PollInterval pollInterval) {
+                if (!signals.isEmpty()) {
+                    return new SignalWaiter(signals, timeout, pollInterval);
+                }
+                if (lowLatency) {
+                    return new SpinThenParkWaiter(timeout);
+                }
+                return new AwaitilityWaiter(conditionFactory(timeout, pollInterval));
+            }
+
+            private ConditionFactory conditionFactory(Duration timeout, PollInterval pollInterval) {
+                ConditionFactory await = Awaitility.await();
+                if (timeout != null) {
+                    await = await.atMost(timeout);
+                }
+                if (pollInterval != null) {
+                    await = await.pollInterval(pollInterval);
+                }
+                if (pollDelay != null) {
+                    await = await.pollDelay(pollDelay);
+                }
+                return switch (evaluationMode == null ? defaultEvaluationMode : evaluationMode) {
+                    case DEDICATED_THREAD -> await;
+                    case CALLER_THREAD -> await.pollInSameThread();
+                    case SHARED_VIRTUAL_THREADS -> await.pollExecutorService(EvaluationMode.sharedVirtualThreads());
+                };
+            }
         }
     }
 }
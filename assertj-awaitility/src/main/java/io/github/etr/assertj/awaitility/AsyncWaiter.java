@@ -0,0 +1,73 @@
+package io.github.etr.assertj.awaitility;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.awaitility.core.ThrowingRunnable;
+import org.awaitility.pollinterval.PollInterval;
+
+/**
+ * Polls an assertion without blocking any thread in between polls.
+ *
+ * <p>The polls are scheduled by a single scheduler thread, shared by all the async conditions, and they run on the
+ * shared virtual threads of {@link EvaluationMode#SHARED_VIRTUAL_THREADS}. This way, many conditions can be awaited
+ * concurrently, without a thread blocked for each of them.
+ */
+final class AsyncWaiter {
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            task -> Thread.ofPlatform().daemon().name("utilitest-eventually").unstarted(task));
+
+    private final Duration timeout;
+    private final PollInterval pollInterval;
+
+    AsyncWaiter(Duration timeout, PollInterval pollInterval) {
+        this.timeout = timeout == null ? Waiter.DEFAULT_TIMEOUT : timeout;
+        this.pollInterval = pollInterval == null ? (pollCount, previous) -> Waiter.DEFAULT_POLL_INTERVAL : pollInterval;
+    }
+
+    /**
+     * Starts polling the assertion. The returned future completes when the assertion passes, or fails with its last
+     * {@link AssertionError} once the timeout is reached. Cancelling the future stops the polling.
+     */
+    CompletableFuture<Void> untilAsserted(ThrowingRunnable assertion) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        EvaluationMode.sharedVirtualThreads().execute(() -> poll(assertion, result, deadline, 1, Duration.ZERO));
+        return result;
+    }
+
+    private void poll(
+            ThrowingRunnable assertion,
+            CompletableFuture<Void> result,
+            long deadline,
+            int pollCount,
+            Duration previousInterval) {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            AssertionError failure = Waiter.evaluate(assertion);
+            if (failure == null) {
+                result.complete(null);
+                return;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            Duration interval = pollInterval.next(pollCount, previousInterval);
+            SCHEDULER.schedule(
+                    () -> EvaluationMode.sharedVirtualThreads()
+                            .execute(() -> poll(assertion, result, deadline, pollCount + 1, interval)),
+                    Math.min(interval.toNanos(), remaining),
+                    NANOSECONDS);
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.etr.assertj.awaitility;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.awaitility.core.ConditionFactory;
+import org.awaitility.core.ConditionTimeoutException;
+import org.awaitility.core.ThrowingRunnable;
+
+/**
+ * Waits using Awaitility, but makes sure the last failure of the assertion is reported on timeout.
+ *
+ * <p>When the timeout is reached while a poll is still running, Awaitility reports the timeout without any cause.
+ * In this case, the failure of the previous poll is attached instead.
+ */
+final class AwaitilityWaiter implements Waiter {
+
+    private final ConditionFactory await;
+
+    AwaitilityWaiter(ConditionFactory await) {
+        this.await = await;
+    }
+
+    @Override
+    public void untilAsserted(ThrowingRunnable assertion) {
+        AtomicReference<AssertionError> lastFailure = new AtomicReference<>();
+        try {
+            await.untilAsserted(() -> {
+                try {
+                    assertion.run();
+                } catch (AssertionError e) {
+                    lastFailure.set(e);
+                    throw e;
+                }
+            });
+        } catch (ConditionTimeoutException timeout) {
+            if (lastFailure.get() == null || timeout.getCause() instanceof AssertionError) {
+                throw timeout;
+            }
+            throw Waiter.timedOut(timeout, lastFailure.get());
+        }
+    }
+}
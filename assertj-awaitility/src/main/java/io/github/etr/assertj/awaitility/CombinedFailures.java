@@ -0,0 +1,34 @@
+package io.github.etr.assertj.awaitility;
+
+import java.util.Map;
+
+/**
+ * Combines the failures of several assertions into a single {@link AssertionError}.
+ */
+final class CombinedFailures {
+
+    private CombinedFailures() {}
+
+    /**
+     * Creates an error listing the messages of the given failures, each one preceded by its label, and the number
+     * of the other failures, which are not reported. The reported failures are also added as suppressed exceptions.
+     */
+    static AssertionError combine(String summary, Map<String, AssertionError> reported, int notReported) {
+        StringBuilder message = new StringBuilder(summary);
+        reported.forEach((label, failure) -> message.append(System.lineSeparator())
+                .append(System.lineSeparator())
+                .append(label)
+                .append(": ")
+                .append(failure.getMessage()));
+        if (notReported > 0) {
+            message.append(System.lineSeparator())
+                    .append(System.lineSeparator())
+                    .append("... and ")
+                    .append(notReported)
+                    .append(" more");
+        }
+        AssertionError combined = new AssertionError(message.toString());
+        reported.values().forEach(combined::addSuppressed);
+        return combined;
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.etr.assertj.awaitility;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import org.awaitility.core.ConditionTimeoutException;
+import org.awaitility.core.ThrowingRunnable;
+
+/**
+ * Checks that an assertion keeps passing for a given duration, sampling it at jittered intervals.
+ *
+ * <p>The samples of all the consistent conditions are taken by a single daemon thread, so checking them alongside a
+ * busy system under test costs a single thread, and the waiting threads are blocked without spinning. The sampling
+ * stops at the first violation, which is reported with the timeline of the last samples.
+ */
+final class ConsistentSampler {
+
+    private static final int TIMELINE_SIZE = 10;
+
+    private static final ScheduledExecutorService SAMPLER = Executors.newSingleThreadScheduledExecutor(
+            task -> Thread.ofPlatform().daemon().name("utilitest-consistently").unstarted(task));
+
+    private final Duration duration;
+    private final Duration interval;
+    private final double jitter;
+
+    ConsistentSampler(Duration duration, Duration interval, double jitter) {
+        this.duration = duration;
+        this.interval = interval == null ? Waiter.DEFAULT_POLL_INTERVAL : interval;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Blocks until the assertion passed for the whole duration.
+     *
+     * @throws AssertionError at the first violation, having the failure of the assertion as cause
+     */
+    void untilElapsed(ThrowingRunnable assertion) {
+        Sampling sampling = new Sampling(assertion);
+        SAMPLER.execute(sampling::sample);
+        try {
+            sampling.result.get();
+        } catch (ExecutionException e) {
+            throw (AssertionError) e.getCause();
+        } catch (InterruptedException e) {
+            sampling.result.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new ConditionTimeoutException("Interrupted while checking the condition");
+        }
+    }
+
+    private long nextDelay() {
+        long nanos = interval.toNanos();
+        return jitter == 0 ? nanos : (long) (nanos * ThreadLocalRandom.current().nextDouble(1 - jitter, 1 + jitter));
+    }
+
+    private final class Sampling {
+        private final ThrowingRunnable assertion;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final long start = System.nanoTime();
+        private final Deque<Long> timeline = new ArrayDeque<>();
+        private int samples;
+
+        Sampling(ThrowingRunnable assertion) {
+            this.assertion = assertion;
+        }
+
+        void sample() {
+            if (result.isDone()) {
+                return;
+            }
+            long elapsed = System.nanoTime() - start;
+            Throwable failure = null;
+            try {
+                assertion.run();
+            } catch (Throwable e) {
+                failure = e;
+            }
+            samples++;
+            if (failure != null) {
+                result.completeExceptionally(violation(elapsed, failure));
+                return;
+            }
+            if (timeline.size() == TIMELINE_SIZE) {
+                timeline.removeFirst();
+            }
+            timeline.addLast(elapsed);
+
+            long remaining = duration.toNanos() - elapsed;
+            if (remaining <= 0) {
+                result.complete(null);
+            } else {
+                SAMPLER.schedule(this::sample, Math.min(nextDelay(), remaining), NANOSECONDS);
+            }
+        }
+
+        private AssertionError violation(long elapsed, Throwable failure) {
+            String passed = timeline.stream()
+                    .map(offset -> "+%dms passed".formatted(NANOSECONDS.toMillis(offset)))
+                    .collect(Collectors.joining(", ", "", timeline.isEmpty() ? "" : ", "));
+            String message =
+                    "Condition was violated at sample #%d, after %dms of %s.%nTimeline (last %d samples): %s+%dms FAILED"
+                            .formatted(
+                                    samples,
+                                    NANOSECONDS.toMillis(elapsed),
+                                    duration,
+                                    Math.min(samples, TIMELINE_SIZE + 1),
+                                    passed,
+                                    NANOSECONDS.toMillis(elapsed));
+            return new AssertionError(message, failure);
+        }
+    }
+}
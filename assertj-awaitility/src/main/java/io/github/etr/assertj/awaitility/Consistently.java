@@ -0,0 +1,80 @@
+package io.github.etr.assertj.awaitility;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.Condition;
+import org.assertj.core.api.ObjectAssert;
+
+/**
+ * Configures a condition which must keep holding for a given duration, such as a queue which never exceeds a size
+ * during a load test.
+ *
+ * <p>The assertion is sampled at jittered intervals, so it doesn't keep missing a periodic glitch of the system under
+ * test. The samples of all such conditions are taken by a single shared thread, so the assertions should be cheap.
+ * The condition fails at the first violation, without waiting for the end of the duration.
+ *
+ * Example usage:
+ * <pre>{@code
+ * assertThat(queue)
+ *     .is(consistently()
+ *         .during(30, SECONDS)
+ *         .checkingEvery(100, MILLISECONDS)
+ *         .goingTo(it -> it.extracting(Queue::size, INTEGER).isLessThan(1_000)));
+ * }</pre>
+ *
+ * @param <T> the type of the object being tested
+ */
+public final class Consistently<T> {
+
+    private static final double DEFAULT_JITTER = 0.1;
+
+    private Duration duration;
+    private Duration interval;
+    private double jitter = DEFAULT_JITTER;
+
+    Consistently() {}
+
+    public Consistently<T> during(int amount, TimeUnit unit) {
+        this.duration = Duration.of(amount, unit.toChronoUnit());
+        return this;
+    }
+
+    /**
+     * Sets the mean interval between samples, which is 100 milliseconds by default.
+     */
+    public Consistently<T> checkingEvery(int amount, TimeUnit unit) {
+        this.interval = Duration.of(amount, unit.toChronoUnit());
+        return this;
+    }
+
+    /**
+     * Randomly varies each interval by up to the given fraction of it, 0.1 by default.
+     * Zero samples at a fixed rate.
+     */
+    public Consistently<T> withJitter(double fraction) {
+        if (fraction < 0 || fraction >= 1) {
+            throw new IllegalArgumentException("The jitter must be between 0 and 1, but was " + fraction);
+        }
+        this.jitter = fraction;
+        return this;
+    }
+
+    /**
+     * @return a condition which blocks for the configured duration, and fails at the first violation of the test
+     * @throws IllegalStateException if the duration is not configured
+     */
+    public Condition<T> goingTo(Consumer<ObjectAssert<T>> test) {
+        if (duration == null) {
+            throw new IllegalStateException("The duration of a consistent condition must be set via during(...)");
+        }
+        ConsistentSampler sampler = new ConsistentSampler(duration, interval, jitter);
+        return new Condition<>(
+                actual -> {
+                    sampler.untilElapsed(() -> test.accept(Assertions.assertThat(actual)));
+                    return true;
+                },
+                "consistent condition during " + duration);
+    }
+}
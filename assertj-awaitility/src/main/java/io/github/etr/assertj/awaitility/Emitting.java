@@ -0,0 +1,196 @@
+package io.github.etr.assertj.awaitility;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ListAssert;
+import org.awaitility.core.ConditionTimeoutException;
+
+/**
+ * Waits until the elements emitted by a {@link Flow.Publisher} satisfy an assertion. The assertion is evaluated
+ * again whenever new elements arrive, instead of polling, and the elements are requested in batches, only after the
+ * previous ones were checked.
+ *
+ * <p>Sources implementing the Reactive Streams interfaces, such as Reactor's {@code Flux}, can be adapted with
+ * {@code org.reactivestreams.FlowAdapters.toFlowPublisher(...)} or {@code JdkFlowAdapter.publisherToFlowPublisher(...)}.
+ *
+ * Example usage:
+ * <pre>{@code
+ * List<Event> events = eventually()
+ *     .within(5, SECONDS)
+ *     .emitting(eventBus.events())
+ *     .keepingLast(100)
+ *     .goingTo(it -> it.extracting("type").contains(ORDER_SHIPPED));
+ * }</pre>
+ *
+ * @param <T> the type of the emitted elements
+ */
+public final class Emitting<T> {
+
+    private static final int DEFAULT_BATCH_SIZE = 16;
+
+    private final Flow.Publisher<? extends T> publisher;
+    private final Waiter waiter;
+    private volatile Runnable wakeUp = () -> {};
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int keepingLast = Integer.MAX_VALUE;
+
+    Emitting(Flow.Publisher<? extends T> publisher, Function<SignalWaiter.Signal, Waiter> waiterWakingOn) {
+        this.publisher = Objects.requireNonNull(publisher);
+        this.waiter = waiterWakingOn.apply(SignalWaiter.Signal.notifiedBy(this::wakingUp));
+    }
+
+    private void wakingUp(Runnable wakeUp) {
+        this.wakeUp = wakeUp;
+    }
+
+    /**
+     * Requests the given number of elements at once, and the next ones only after they were all checked.
+     * By default, elements are requested in batches of {@value #DEFAULT_BATCH_SIZE}.
+     */
+    public Emitting<T> requesting(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive, but was " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Only keeps the given number of most recent elements, so that long streams are not buffered entirely.
+     * The assertion is evaluated against this window of elements, and no more elements than it holds are requested
+     * at once.
+     */
+    public Emitting<T> keepingLast(int elements) {
+        if (elements < 1) {
+            throw new IllegalArgumentException("The number of kept elements must be positive, but was " + elements);
+        }
+        this.keepingLast = elements;
+        return this;
+    }
+
+    /**
+     * Subscribes to the publisher, and waits until the elements received so far satisfy the assertion.
+     * The subscription is cancelled afterwards.
+     *
+     * @return the elements which satisfied the assertion
+     * @throws ConditionTimeoutException if the timeout is reached, or the publisher completes, before
+     * @throws IllegalStateException if the publisher fails before
+     */
+    public List<T> goingTo(Consumer<ListAssert<T>> test) {
+        Collector collector = new Collector();
+        AtomicReference<List<T>> result = new AtomicReference<>();
+        publisher.subscribe(collector);
+        try {
+            waiter.untilAsserted(() -> {
+                boolean completed = collector.terminated;
+                boolean drained = collector.outstanding.get() == 0;
+                List<T> elements = collector.elements();
+                AssertionError failure = Waiter.evaluate(() -> test.accept(Assertions.assertThat(elements)));
+                if (failure == null) {
+                    result.set(elements);
+                    return;
+                }
+                if (collector.error != null) {
+                    IllegalStateException error = new IllegalStateException(
+                            "The publisher failed after " + collector.received.get() + " elements", collector.error);
+                    error.addSuppressed(failure);
+                    throw error;
+                }
+                if (completed) {
+                    throw new ConditionTimeoutException(
+                            "The publisher completed after " + collector.received.get()
+                                    + " elements, without fulfilling the condition",
+                            failure);
+                }
+                if (drained) {
+                    collector.requestMore();
+                }
+                throw failure;
+            });
+            return result.get();
+        } finally {
+            collector.cancel();
+        }
+    }
+
+    private final class Collector implements Flow.Subscriber<T> {
+        private final Deque<T> window = new ArrayDeque<>();
+        private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        private final AtomicLong outstanding = new AtomicLong();
+        private final AtomicLong received = new AtomicLong();
+        private volatile boolean terminated;
+        private volatile Throwable error;
+        private volatile boolean cancelled;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (cancelled || !this.subscription.compareAndSet(null, subscription)) {
+                subscription.cancel();
+                return;
+            }
+            long batch = Math.min(batchSize, keepingLast);
+            outstanding.addAndGet(batch);
+            subscription.request(batch);
+        }
+
+        @Override
+        public void onNext(T item) {
+            synchronized (window) {
+                if (window.size() == keepingLast) {
+                    window.removeFirst();
+                }
+                window.addLast(item);
+            }
+            received.incrementAndGet();
+            outstanding.decrementAndGet();
+            wakeUp.run();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated = true;
+            wakeUp.run();
+        }
+
+        @Override
+        public void onComplete() {
+            terminated = true;
+            wakeUp.run();
+        }
+
+        List<T> elements() {
+            synchronized (window) {
+                return List.copyOf(window);
+            }
+        }
+
+        /**
+         * Requests the next batch, once all the previous elements were checked. The batch doesn't exceed the kept
+         * elements, so that each element is checked at least once.
+         */
+        void requestMore() {
+            Flow.Subscription current = subscription.get();
+            long batch = Math.min(batchSize, keepingLast);
+            if (current != null && !terminated && outstanding.compareAndSet(0, batch)) {
+                current.request(batch);
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            Flow.Subscription current = subscription.get();
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
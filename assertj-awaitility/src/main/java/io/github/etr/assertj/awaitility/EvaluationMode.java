@@ -0,0 +1,36 @@
+package io.github.etr.assertj.awaitility;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Where the Awaitility-backed eventual conditions are evaluated.
+ *
+ * <p>The default mode can be changed globally via {@link AssertjAndAwaitility#setDefaultEvaluationMode(EvaluationMode)},
+ * and for a single condition via {@link AssertjAndAwaitility.EventualCondition.Builder#evaluatedOn(EvaluationMode)}.
+ */
+public enum EvaluationMode {
+
+    /**
+     * Awaitility's default: every await starts its own polling thread.
+     */
+    DEDICATED_THREAD,
+
+    /**
+     * The condition is evaluated on the thread running the assertion, without creating any threads.
+     */
+    CALLER_THREAD,
+
+    /**
+     * The condition is evaluated on virtual threads, by an executor shared by all the awaits.
+     */
+    SHARED_VIRTUAL_THREADS;
+
+    static ExecutorService sharedVirtualThreads() {
+        return SharedVirtualThreads.EXECUTOR;
+    }
+
+    private static final class SharedVirtualThreads {
+        private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
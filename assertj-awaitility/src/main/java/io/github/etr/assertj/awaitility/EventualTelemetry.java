@@ -0,0 +1,362 @@
+package io.github.etr.assertj.awaitility;
+
+import static java.util.Comparator.comparingDouble;
+
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.awaitility.pollinterval.FixedPollInterval;
+import org.awaitility.pollinterval.PollInterval;
+
+/**
+ * Records how long the eventual conditions take to become true, when enabled via the {@value #ENABLED} system
+ * property.
+ *
+ * <p>The samples are grouped by the line creating the condition, and an aggregated JSON report is written when the
+ * JVM exits, to the path given by the {@value #REPORT} system property. The lines which were not run keep their
+ * entries from the previous report. The report also contains a suggested timeout and poll interval for each line,
+ * based on the slowest wait seen so far, in this run or the previous ones.
+ * Depending on the {@value #CALIBRATION} system property, these suggestions are only logged, or applied to the
+ * conditions which don't set their own.
+ */
+final class EventualTelemetry {
+
+    static final String ENABLED = "utilitest.eventually.telemetry.enabled";
+
+    static final String REPORT = "utilitest.eventually.telemetry.report";
+
+    static final String CALIBRATION = "utilitest.eventually.calibration";
+
+    private static final String DEFAULT_REPORT = "target/utilitest-eventually-telemetry.json";
+
+    private static final int SAFETY_FACTOR = 5;
+    private static final Duration MIN_SUGGESTED_TIMEOUT = Duration.ofMillis(500);
+    private static final int POLLS_PER_TYPICAL_WAIT = 10;
+    private static final Duration MIN_SUGGESTED_POLL_INTERVAL = Duration.ofMillis(1);
+
+    private static final Pattern CALL_SITE = Pattern.compile("\"callSite\": \"([^\"]*)\"");
+    private static final Pattern HISTORICAL_MAX = Pattern.compile("\"historicalMaxNanos\": (\\d+)");
+    private static final Pattern SUGGESTED_TIMEOUT = Pattern.compile("\"suggestedTimeoutMillis\": (\\d+)");
+    private static final Pattern SUGGESTED_POLL_INTERVAL = Pattern.compile("\"suggestedPollIntervalMillis\": (\\d+)");
+
+    private static final System.Logger LOGGER = System.getLogger(EventualTelemetry.class.getName());
+
+    private static final URL LOCATION = location(EventualTelemetry.class);
+
+    private static final EventualTelemetry INSTANCE = fromSystemProperties();
+
+    /**
+     * What to do with the timeouts and poll intervals suggested by the previous reports.
+     */
+    enum Calibration {
+        /** Only write them to the report. */
+        OFF,
+        /** Also log them at the end of the run. */
+        SUGGEST,
+        /** Use them instead of the default timeout and poll interval. */
+        APPLY
+    }
+
+    private final Path report;
+    private final Calibration calibration;
+    private final Map<String, History> history;
+    private final Map<String, List<Sample>> samples = new ConcurrentHashMap<>();
+
+    EventualTelemetry(Path report, Calibration calibration) {
+        this.report = report;
+        this.calibration = calibration;
+        this.history = readHistory(report);
+    }
+
+    /**
+     * Returns the telemetry of the current JVM, or {@code null} if it is not enabled.
+     */
+    static EventualTelemetry instance() {
+        return INSTANCE;
+    }
+
+    private static EventualTelemetry fromSystemProperties() {
+        Calibration calibration = calibration(System.getProperty(CALIBRATION, "off"));
+        if (!Boolean.getBoolean(ENABLED) && calibration == Calibration.OFF) {
+            return null;
+        }
+        EventualTelemetry telemetry =
+                new EventualTelemetry(Path.of(System.getProperty(REPORT, DEFAULT_REPORT)), calibration);
+        Runtime.getRuntime().addShutdownHook(new Thread(telemetry::writeReport, "utilitest-eventually-telemetry"));
+        return telemetry;
+    }
+
+    /**
+     * Parses the {@value #CALIBRATION} system property, falling back to {@link Calibration#OFF} if it is unknown.
+     */
+    static Calibration calibration(String value) {
+        try {
+            return Calibration.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(
+                    Level.WARNING,
+                    "Ignoring the unknown {0} value \"{1}\", expected one of {2}",
+                    CALIBRATION,
+                    value,
+                    Arrays.toString(Calibration.values()));
+            return Calibration.OFF;
+        }
+    }
+
+    /**
+     * Returns the first caller outside of this library, which is the line creating the condition.
+     */
+    static String callSite() {
+        return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+                .walk(frames -> frames.filter(frame -> !isInternal(frame.getDeclaringClass()))
+                        .findFirst()
+                        .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                        .orElse("unknown"));
+    }
+
+    private static boolean isInternal(Class<?> type) {
+        return type.getPackageName().equals(EventualTelemetry.class.getPackageName())
+                && Objects.equals(location(type), LOCATION);
+    }
+
+    private static URL location(Class<?> type) {
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        return codeSource == null ? null : codeSource.getLocation();
+    }
+
+    /**
+     * Returns the timeout to use at the given call site: the calibrated one, if it is applied and tighter than the
+     * declared one, or the declared one otherwise.
+     */
+    Duration timeout(String callSite, Duration declared) {
+        History previous = history.get(callSite);
+        if (calibration != Calibration.APPLY || previous == null || previous.suggestedTimeout() == null) {
+            return declared;
+        }
+        Duration limit = declared == null ? Waiter.DEFAULT_TIMEOUT : declared;
+        return previous.suggestedTimeout().compareTo(limit) < 0 ? previous.suggestedTimeout() : declared;
+    }
+
+    /**
+     * Returns the calibrated poll interval of the given call site, or {@code null} if none is applied.
+     */
+    PollInterval pollInterval(String callSite) {
+        History previous = history.get(callSite);
+        if (calibration != Calibration.APPLY || previous == null || previous.suggestedPollInterval() == null) {
+            return null;
+        }
+        return new FixedPollInterval(previous.suggestedPollInterval());
+    }
+
+    Waiter recording(String callSite, Duration declaredTimeout, Duration timeout, Waiter waiter) {
+        long declaredNanos = (declaredTimeout == null ? Waiter.DEFAULT_TIMEOUT : declaredTimeout).toNanos();
+        long timeoutNanos = (timeout == null ? Waiter.DEFAULT_TIMEOUT : timeout).toNanos();
+        return assertion -> {
+            AtomicInteger polls = new AtomicInteger();
+            boolean passed = false;
+            long start = System.nanoTime();
+            try {
+                waiter.untilAsserted(() -> {
+                    polls.incrementAndGet();
+                    assertion.run();
+                });
+                passed = true;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                samples.computeIfAbsent(callSite, __ -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(new Sample(elapsed, polls.get(), timeoutNanos, declaredNanos, passed));
+            }
+        };
+    }
+
+    void writeReport() {
+        List<Summary> summaries = samples.entrySet().stream()
+                .map(it -> Summary.of(it.getKey(), it.getValue(), history.get(it.getKey())))
+                .sorted(comparingDouble(Summary::maxTimeoutRatio).reversed())
+                .toList();
+        if (summaries.isEmpty()) {
+            return;
+        }
+        List<String> entries = new ArrayList<>();
+        summaries.forEach(summary -> entries.add(summary.toJson()));
+        history.entrySet().stream()
+                .filter(it -> !samples.containsKey(it.getKey()))
+                .forEach(it -> entries.add(it.getValue().json()));
+        try {
+            Path parent = report.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(report, entries.stream().collect(Collectors.joining(",\n  ", "[\n  ", "\n]\n")));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not write the eventual conditions report to " + report, e);
+        }
+        logSummary(summaries);
+    }
+
+    private void logSummary(List<Summary> summaries) {
+        int count = summaries.stream().mapToInt(Summary::count).sum();
+        int timeouts = summaries.stream().mapToInt(Summary::timeouts).sum();
+        LOGGER.log(
+                Level.INFO,
+                "Awaited {0} eventual conditions at {1} call sites, {2} of them timed out. Report written to {3}",
+                count,
+                summaries.size(),
+                timeouts,
+                report.toAbsolutePath());
+        for (Summary summary : summaries) {
+            if (summary.maxTimeoutRatio() >= 0.5) {
+                LOGGER.log(
+                        Level.WARNING,
+                        "{0} used up to {1}% of its timeout",
+                        summary.callSite(),
+                        Math.round(summary.maxTimeoutRatio() * 100));
+            }
+            if (calibration == Calibration.SUGGEST) {
+                LOGGER.log(
+                        Level.INFO,
+                        "{0} could wait within {1}ms, checking every {2}ms",
+                        summary.callSite(),
+                        summary.suggestedTimeout().toMillis(),
+                        summary.suggestedPollInterval().toMillis());
+            }
+        }
+    }
+
+    private static Map<String, History> readHistory(Path report) {
+        if (!Files.isRegularFile(report)) {
+            return Map.of();
+        }
+        Map<String, History> history = new HashMap<>();
+        try {
+            for (String line : Files.readAllLines(report)) {
+                Matcher callSite = CALL_SITE.matcher(line);
+                if (callSite.find()) {
+                    history.put(
+                            callSite.group(1),
+                            new History(
+                                    find(HISTORICAL_MAX, line),
+                                    millis(find(SUGGESTED_TIMEOUT, line)),
+                                    millis(find(SUGGESTED_POLL_INTERVAL, line)),
+                                    entry(line)));
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not read the previous eventual conditions report from " + report, e);
+        }
+        return history;
+    }
+
+    private static long find(Pattern pattern, String line) {
+        Matcher matcher = pattern.matcher(line);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private static String entry(String line) {
+        String entry = line.strip();
+        return entry.endsWith(",") ? entry.substring(0, entry.length() - 1) : entry;
+    }
+
+    private static Duration millis(long millis) {
+        return millis == 0 ? null : Duration.ofMillis(millis);
+    }
+
+    private record Sample(long elapsedNanos, int polls, long timeoutNanos, long declaredTimeoutNanos, boolean passed) {}
+
+    /**
+     * The entry of a call site in the previous report, kept as is if the call site is not run again.
+     */
+    private record History(long maxNanos, Duration suggestedTimeout, Duration suggestedPollInterval, String json) {}
+
+    private record Summary(
+            String callSite,
+            int count,
+            int timeouts,
+            long p50Nanos,
+            long p99Nanos,
+            long maxNanos,
+            long historicalMaxNanos,
+            int maxPolls,
+            double maxTimeoutRatio,
+            Duration suggestedTimeout,
+            Duration suggestedPollInterval) {
+
+        static Summary of(String callSite, List<Sample> samples, History previous) {
+            List<Sample> copy;
+            synchronized (samples) {
+                copy = List.copyOf(samples);
+            }
+            long[] sorted =
+                    copy.stream().mapToLong(Sample::elapsedNanos).sorted().toArray();
+            long max = sorted[sorted.length - 1];
+            long historicalMax = previous == null ? max : Math.max(max, previous.maxNanos());
+            long declaredTimeout =
+                    copy.stream().mapToLong(Sample::declaredTimeoutNanos).min().orElseThrow();
+
+            // waits which are usually short are checked often, but the timeout leaves room for the slowest one
+            Duration suggestedTimeout = Duration.ofNanos(Math.min(
+                    declaredTimeout, Math.max(historicalMax * SAFETY_FACTOR, MIN_SUGGESTED_TIMEOUT.toNanos())));
+            Duration suggestedPollInterval = Duration.ofNanos(Math.min(
+                    Waiter.DEFAULT_POLL_INTERVAL.toNanos(),
+                    Math.max(percentile(sorted, 50) / POLLS_PER_TYPICAL_WAIT, MIN_SUGGESTED_POLL_INTERVAL.toNanos())));
+
+            return new Summary(
+                    callSite,
+                    copy.size(),
+                    (int) copy.stream().filter(it -> !it.passed()).count(),
+                    percentile(sorted, 50),
+                    percentile(sorted, 99),
+                    max,
+                    historicalMax,
+                    copy.stream().mapToInt(Sample::polls).max().orElse(0),
+                    copy.stream()
+                            .mapToDouble(it -> (double) it.elapsedNanos() / it.timeoutNanos())
+                            .max()
+                            .orElse(0),
+                    suggestedTimeout,
+                    suggestedPollInterval);
+        }
+
+        private static long percentile(long[] sorted, int percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank - 1, 0)];
+        }
+
+        String toJson() {
+            return String.format(
+                    Locale.ROOT,
+                    """
+                    {"callSite": "%s", "count": %d, "timeouts": %d, "p50Nanos": %d, "p99Nanos": %d, \
+                    "maxNanos": %d, "historicalMaxNanos": %d, "maxPolls": %d, "maxTimeoutRatio": %.3f, \
+                    "suggestedTimeoutMillis": %d, "suggestedPollIntervalMillis": %d}""",
+                    callSite,
+                    count,
+                    timeouts,
+                    p50Nanos,
+                    p99Nanos,
+                    maxNanos,
+                    historicalMaxNanos,
+                    maxPolls,
+                    maxTimeoutRatio,
+                    suggestedTimeout.toMillis(),
+                    suggestedPollInterval.toMillis());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.etr.assertj.awaitility;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.awaitility.core.ConditionTimeoutException;
+
+/**
+ * Waits until each element of an iterable satisfies a test, re-evaluating only the elements which didn't pass yet.
+ *
+ * <p>The elements are collected once, when the condition is evaluated. Afterwards, every poll only checks the pending
+ * ones, optionally in parallel, so the cost of a poll decreases as the elements pass the test.
+ */
+final class EventuallyEach {
+
+    /**
+     * How many failures are included in the message of the error, out of possibly thousands of pending elements.
+     */
+    private static final int MAX_REPORTED = 10;
+
+    private EventuallyEach() {}
+
+    /**
+     * Waits until each element passes the test. If it times out, and the final test is a different one, the pending
+     * elements are checked once more with the final test, to report its failures instead.
+     */
+    static <E> Predicate<Iterable<? extends E>> eventuallyEach(
+            Predicate<E> test, Predicate<E> finalTest, Waiter waiter, boolean parallel) {
+        return actual -> {
+            List<Element<E>> pending = new ArrayList<>();
+            for (E element : actual) {
+                pending.add(new Element<>(pending.size(), element));
+            }
+            int total = pending.size();
+
+            try {
+                waiter.untilAsserted(() -> {
+                    List<Failure<E>> failures = check(pending, test, parallel);
+                    pending.clear();
+                    failures.forEach(failure -> pending.add(failure.element()));
+                    if (!failures.isEmpty()) {
+                        throw combined(failures, total);
+                    }
+                });
+            } catch (ConditionTimeoutException timeout) {
+                if (test == finalTest) {
+                    throw timeout;
+                }
+                List<Failure<E>> failures = check(pending, finalTest, parallel);
+                if (!failures.isEmpty()) {
+                    throw Waiter.timedOut(timeout, combined(failures, total));
+                }
+            }
+            return true;
+        };
+    }
+
+    private static <E> List<Failure<E>> check(List<Element<E>> pending, Predicate<E> test, boolean parallel) {
+        Stream<Element<E>> elements = parallel ? pending.parallelStream() : pending.stream();
+        return elements.map(element -> element.check(test))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static <E> AssertionError combined(List<Failure<E>> failures, int total) {
+        Map<String, AssertionError> reported = new LinkedHashMap<>();
+        failures.stream()
+                .limit(MAX_REPORTED)
+                .forEach(failure -> reported.put("element [" + failure.element().index() + "]", failure.error()));
+        String summary = "%d of %d elements did not satisfy the assertion:".formatted(failures.size(), total);
+        return CombinedFailures.combine(summary, reported, failures.size() - reported.size());
+    }
+
+    private record Element<E>(int index, E value) {
+        Failure<E> check(Predicate<E> test) {
+            AssertionError error = Waiter.evaluate(() -> test.test(value));
+            return error == null ? null : new Failure<>(this, error);
+        }
+    }
+
+    private record Failure<E>(Element<E> element, AssertionError error) {}
+}
@@ -0,0 +1,96 @@
+package io.github.etr.assertj.awaitility;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ObjectAssert;
+import org.awaitility.core.ConditionTimeoutException;
+
+/**
+ * Waits until a value, fetched again on every poll, satisfies an assertion. It is useful for state which cannot be
+ * observed through the same object reference, such as the entities of a repository, or the responses of an endpoint.
+ *
+ * Example usage:
+ * <pre>{@code
+ * Order order = eventually()
+ *     .within(5, SECONDS)
+ *     .fetching(() -> orders.findById(42))
+ *     .skippingUnchanged(Order::version)
+ *     .goingTo(it -> it.hasFieldOrPropertyWithValue("status", SHIPPED));
+ * }</pre>
+ *
+ * @param <T> the type of the fetched values
+ */
+public final class Fetching<T> {
+
+    private static final Object NO_VERSION = new Object();
+
+    private final Supplier<? extends T> supplier;
+    private final Waiter waiter;
+    private final boolean lazyFailureMessages;
+    private Function<? super T, ?> version;
+
+    Fetching(Supplier<? extends T> supplier, Waiter waiter, boolean lazyFailureMessages) {
+        this.supplier = Objects.requireNonNull(supplier);
+        this.waiter = waiter;
+        this.lazyFailureMessages = lazyFailureMessages;
+    }
+
+    /**
+     * Skips the assertion when the version of the fetched value, such as its ETag or its version column, is the same
+     * as in the previous poll. The previous failure is reported instead, since the value did not change.
+     */
+    public Fetching<T> skippingUnchanged(Function<? super T, ?> version) {
+        this.version = Objects.requireNonNull(version);
+        return this;
+    }
+
+    /**
+     * Fetches the value on every poll, until it satisfies the assertion.
+     *
+     * @return the fetched value which satisfied the assertion
+     * @throws org.awaitility.core.ConditionTimeoutException if the timeout is reached before
+     */
+    public T goingTo(Consumer<ObjectAssert<T>> test) {
+        AtomicReference<Object> lastVersion = new AtomicReference<>(NO_VERSION);
+        AtomicReference<AssertionError> lastFailure = new AtomicReference<>();
+        AtomicReference<T> result = new AtomicReference<>();
+
+        try {
+            waiter.untilAsserted(() -> {
+                T value = supplier.get();
+                if (version != null) {
+                    Object currentVersion = version.apply(value);
+                    if (lastFailure.get() != null && Objects.equals(currentVersion, lastVersion.get())) {
+                        throw lastFailure.get();
+                    }
+                    lastVersion.set(currentVersion);
+                }
+                result.set(value);
+                try {
+                    ObjectAssert<T> check = Assertions.assertThat(value);
+                    if (lazyFailureMessages) {
+                        check.withRepresentation(PlaceholderRepresentation.INSTANCE);
+                    }
+                    test.accept(check);
+                } catch (AssertionError e) {
+                    lastFailure.set(e);
+                    throw e;
+                }
+            });
+        } catch (ConditionTimeoutException timeout) {
+            if (!lazyFailureMessages || lastFailure.get() == null) {
+                throw timeout;
+            }
+            // the last fetched value is checked once more, to report its failure with the usual representation
+            AssertionError failure = Waiter.evaluate(() -> test.accept(Assertions.assertThat(result.get())));
+            if (failure != null) {
+                throw Waiter.timedOut(timeout, failure);
+            }
+        }
+        return result.get();
+    }
+}
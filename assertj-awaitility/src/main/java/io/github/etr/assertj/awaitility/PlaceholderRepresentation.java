@@ -0,0 +1,32 @@
+package io.github.etr.assertj.awaitility;
+
+import org.assertj.core.presentation.Representation;
+
+/**
+ * Renders objects as their class name and identity hash code, instead of their possibly huge {@code toString}.
+ * Used for the failures which are thrown away without being shown, such as the intermediate failures of eventual
+ * conditions, or the mismatches of argument matchers.
+ */
+final class PlaceholderRepresentation implements Representation {
+
+    static final PlaceholderRepresentation INSTANCE = new PlaceholderRepresentation();
+
+    private PlaceholderRepresentation() {}
+
+    @Override
+    public String toStringOf(Object object) {
+        return switch (object) {
+            case null -> "null";
+            case Number number -> number.toString();
+            case Boolean bool -> bool.toString();
+            case Character character -> character.toString();
+            case Enum<?> constant -> constant.name();
+            default -> object.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(object));
+        };
+    }
+
+    @Override
+    public String unambiguousToStringOf(Object object) {
+        return toStringOf(object);
+    }
+}
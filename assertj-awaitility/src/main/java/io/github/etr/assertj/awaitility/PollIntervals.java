@@ -0,0 +1,71 @@
+package io.github.etr.assertj.awaitility;
+
+import java.time.Duration;
+import org.awaitility.pollinterval.PollInterval;
+
+/**
+ * Poll interval strategies for eventual conditions, to be used with
+ * {@link AssertjAndAwaitility.EventualCondition.Builder#checking(PollInterval)}.
+ *
+ * <p>They check conditions which are usually met within a few milliseconds very often, and back off
+ * for the slow ones, instead of hammering the system under test.
+ */
+public final class PollIntervals {
+
+    private PollIntervals() {}
+
+    /**
+     * Waits for {@code unit}, {@code unit}, {@code 2 * unit}, {@code 3 * unit}, {@code 5 * unit}... between polls,
+     * without exceeding {@code max}.
+     */
+    public static PollInterval fibonacci(Duration unit, Duration max) {
+        requirePositive(unit, max);
+        return (pollCount, previous) -> {
+            long previousFib = 0;
+            long fib = 1;
+            for (int i = 1; i < pollCount && unit.multipliedBy(fib).compareTo(max) < 0; i++) {
+                long next = previousFib + fib;
+                previousFib = fib;
+                fib = next;
+            }
+            return min(unit.multipliedBy(fib), max);
+        };
+    }
+
+    /**
+     * Waits for {@code initial} before the second poll, and multiplies the interval by {@code factor} after each
+     * poll, without exceeding {@code max}.
+     */
+    public static PollInterval exponential(Duration initial, double factor, Duration max) {
+        requirePositive(initial, max);
+        if (factor < 1) {
+            throw new IllegalArgumentException("The factor must be at least 1, but was " + factor);
+        }
+        return (pollCount, previous) -> pollCount <= 1
+                ? min(initial, max)
+                : min(Duration.ofNanos((long) Math.min(previous.toNanos() * factor, Long.MAX_VALUE)), max);
+    }
+
+    /**
+     * Waits for {@code fast} between the first {@code fastPolls} polls, and for {@code slow} afterwards.
+     */
+    public static PollInterval fastThenSlow(Duration fast, int fastPolls, Duration slow) {
+        requirePositive(fast, slow);
+        if (fastPolls < 0) {
+            throw new IllegalArgumentException("The number of fast polls cannot be negative, but was " + fastPolls);
+        }
+        return (pollCount, previous) -> pollCount <= fastPolls ? fast : slow;
+    }
+
+    private static void requirePositive(Duration... durations) {
+        for (Duration duration : durations) {
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException("Poll intervals must be positive, but was " + duration);
+            }
+        }
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+}
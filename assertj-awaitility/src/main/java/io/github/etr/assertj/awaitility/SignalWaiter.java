@@ -0,0 +1,184 @@
+package io.github.etr.assertj.awaitility;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.awaitility.core.ConditionTimeoutException;
+import org.awaitility.core.ThrowingRunnable;
+import org.awaitility.pollinterval.PollInterval;
+
+/**
+ * Re-evaluates the assertion on the caller thread whenever one of the signals fires.
+ * The poll interval is only used as a fallback, for the changes which are not signalled.
+ */
+final class SignalWaiter implements Waiter {
+
+    private final List<Signal> signals;
+    private final Duration timeout;
+    private final PollInterval fallback;
+
+    SignalWaiter(List<Signal> signals, Duration timeout, PollInterval fallback) {
+        this.signals = List.copyOf(signals);
+        this.timeout = timeout == null ? DEFAULT_TIMEOUT : timeout;
+        this.fallback = fallback == null ? (pollCount, previous) -> DEFAULT_POLL_INTERVAL : fallback;
+    }
+
+    @Override
+    public void untilAsserted(ThrowingRunnable assertion) {
+        Semaphore wakeUps = new Semaphore(0);
+        List<AutoCloseable> subscriptions = new ArrayList<>();
+        try {
+            for (Signal signal : signals) {
+                subscriptions.add(signal.subscribe(wakeUps::release));
+            }
+            await(assertion, wakeUps);
+        } finally {
+            subscriptions.forEach(SignalWaiter::closeQuietly);
+        }
+    }
+
+    private void await(ThrowingRunnable assertion, Semaphore wakeUps) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Duration interval = Duration.ZERO;
+
+        for (int pollCount = 1; ; pollCount++) {
+            AssertionError failure = Waiter.evaluate(assertion);
+            if (failure == null) {
+                return;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw Waiter.timedOut(timeout, failure);
+            }
+            interval = fallback.next(pollCount, interval);
+            try {
+                wakeUps.tryAcquire(Math.min(interval.toNanos(), remaining), TimeUnit.NANOSECONDS);
+                wakeUps.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ConditionTimeoutException("Interrupted while waiting for the condition", failure);
+            }
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable subscription) {
+        try {
+            subscription.close();
+        } catch (Exception e) {
+            // the condition was already evaluated, so there is nothing left to wake up
+        }
+    }
+
+    /**
+     * A source of notifications, which wake up the waiting thread.
+     */
+    @FunctionalInterface
+    interface Signal {
+
+        /**
+         * Starts calling the given callback on every notification, until the returned subscription is closed.
+         */
+        AutoCloseable subscribe(Runnable wakeUp);
+
+        static Signal of(CompletionStage<?> stage) {
+            return wakeUp -> {
+                AtomicBoolean closed = new AtomicBoolean();
+                stage.whenComplete((result, failure) -> {
+                    if (!closed.get()) {
+                        wakeUp.run();
+                    }
+                });
+                return () -> closed.set(true);
+            };
+        }
+
+        static Signal of(PropertyChangeSupport support) {
+            return wakeUp -> {
+                PropertyChangeListener listener = __ -> wakeUp.run();
+                support.addPropertyChangeListener(listener);
+                return () -> support.removePropertyChangeListener(listener);
+            };
+        }
+
+        static Signal of(Flow.Publisher<?> publisher) {
+            return wakeUp -> {
+                WakingSubscriber subscriber = new WakingSubscriber(wakeUp);
+                publisher.subscribe(subscriber);
+                return subscriber::cancel;
+            };
+        }
+
+        /**
+         * A signal for callback-based sources, which are given the wake-up callback to call on each notification.
+         */
+        static Signal notifiedBy(Consumer<Runnable> notifier) {
+            return wakeUp -> {
+                AtomicBoolean closed = new AtomicBoolean();
+                notifier.accept(() -> {
+                    if (!closed.get()) {
+                        wakeUp.run();
+                    }
+                });
+                return () -> closed.set(true);
+            };
+        }
+    }
+
+    private static final class WakingSubscriber implements Flow.Subscriber<Object> {
+        private static final Flow.Subscription CANCELLED = new Flow.Subscription() {
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {}
+        };
+
+        private final Runnable wakeUp;
+        private final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+
+        WakingSubscriber(Runnable wakeUp) {
+            this.wakeUp = wakeUp;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (this.subscription.compareAndSet(null, subscription)) {
+                subscription.request(Long.MAX_VALUE);
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(Object item) {
+            wakeUp.run();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            wakeUp.run();
+        }
+
+        @Override
+        public void onComplete() {
+            wakeUp.run();
+        }
+
+        void cancel() {
+            Flow.Subscription previous = subscription.getAndSet(CANCELLED);
+            if (previous != null) {
+                previous.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.etr.assertj.awaitility;
+
+import java.time.Duration;
+import java.util.concurrent.locks.LockSupport;
+import org.awaitility.core.ConditionTimeoutException;
+import org.awaitility.core.ThrowingRunnable;
+
+/**
+ * Evaluates the assertion on the caller thread, without any executor, for conditions expected to be met within
+ * microseconds.
+ *
+ * <p>The assertion is first re-evaluated in a busy loop, for {@value #SPIN_NANOS}ns. Then, the thread yields
+ * between evaluations, until {@value #YIELD_NANOS}ns have elapsed. Afterwards, it parks for intervals starting at
+ * {@value #MIN_PARK_NANOS}ns and doubling up to {@value #MAX_PARK_NANOS}ns, until the timeout is reached.
+ */
+final class SpinThenParkWaiter implements Waiter {
+
+    private static final long SPIN_NANOS = 50_000;
+    private static final long YIELD_NANOS = 1_000_000;
+    private static final long MIN_PARK_NANOS = 50_000;
+    private static final long MAX_PARK_NANOS = 5_000_000;
+
+    private final Duration timeout;
+
+    SpinThenParkWaiter(Duration timeout) {
+        this.timeout = timeout == null ? DEFAULT_TIMEOUT : timeout;
+    }
+
+    @Override
+    public void untilAsserted(ThrowingRunnable assertion) {
+        long start = System.nanoTime();
+        long timeoutNanos = timeout.toNanos();
+        long parkNanos = MIN_PARK_NANOS;
+
+        while (true) {
+            AssertionError failure = Waiter.evaluate(assertion);
+            if (failure == null) {
+                return;
+            }
+
+            long elapsed = System.nanoTime() - start;
+            if (elapsed >= timeoutNanos) {
+                throw Waiter.timedOut(timeout, failure);
+            }
+            if (elapsed < SPIN_NANOS) {
+                Thread.onSpinWait();
+            } else if (elapsed < YIELD_NANOS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(Math.min(parkNanos, timeoutNanos - elapsed));
+                parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new ConditionTimeoutException("Interrupted while waiting for the condition", failure);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.etr.assertj.awaitility;
+
+import java.time.Duration;
+import org.awaitility.core.ConditionTimeoutException;
+import org.awaitility.core.ThrowingRunnable;
+
+/**
+ * Waits until an assertion passes, or fails once the timeout is reached.
+ */
+@FunctionalInterface
+interface Waiter {
+
+    /**
+     * Awaitility's default timeout, used by the waiters which don't rely on Awaitility when no timeout is
+     * configured, since Awaitility's configured default cannot be read.
+     */
+    Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * Awaitility's default poll interval, used by the waiters which don't rely on Awaitility when no poll interval is
+     * configured.
+     */
+    Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(100);
+
+    void untilAsserted(ThrowingRunnable assertion);
+
+    /**
+     * Runs the assertion once, and returns its failure, or {@code null} if it passed.
+     * Other exceptions are propagated, as they are not expected to go away by waiting.
+     */
+    static AssertionError evaluate(ThrowingRunnable assertion) {
+        try {
+            assertion.run();
+            return null;
+        } catch (AssertionError e) {
+            return e;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static ConditionTimeoutException timedOut(Duration timeout, AssertionError lastFailure) {
+        return new ConditionTimeoutException("Condition was not fulfilled within " + timeout, lastFailure);
+    }
+
+    /**
+     * Replaces the last failure of a timeout with the given one, including within its message.
+     */
+    static ConditionTimeoutException timedOut(ConditionTimeoutException timeout, AssertionError lastFailure) {
+        String message = timeout.getMessage();
+        if (timeout.getCause() != null && timeout.getCause().getMessage() != null) {
+            message = message.replace(timeout.getCause().getMessage(), String.valueOf(lastFailure.getMessage()));
+        }
+        return new ConditionTimeoutException(message, lastFailure);
+    }
+}
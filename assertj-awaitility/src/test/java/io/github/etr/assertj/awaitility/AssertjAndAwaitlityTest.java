@@ -1,18 +1,34 @@
 package io.github.etr.assertj.awaitility;
 
+import static io.github.etr.assertj.awaitility.AssertjAndAwaitility.allEventually;
+import static io.github.etr.assertj.awaitility.AssertjAndAwaitility.consistently;
 import static io.github.etr.assertj.awaitility.AssertjAndAwaitility.eventually;
+import static io.github.etr.assertj.awaitility.AssertjAndAwaitility.eventuallyAsync;
+import static io.github.etr.assertj.awaitility.AssertjAndAwaitility.eventuallyEach;
 import static io.github.etr.assertj.awaitility.AssertjAndAwaitility.having;
 import static java.util.concurrent.CompletableFuture.runAsync;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.INTEGER;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import org.awaitility.Awaitility;
 import org.awaitility.core.ConditionTimeoutException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
@@ -123,6 +139,538 @@ class AssertjAndAwaitlityTest {
         );
     }
 
+    @Test
+    void eventualCondition_shouldHonorTimeout() {
+        Elf legoals = new Elf("Legolas");
+        long start = System.nanoTime();
+
+        assertThrows(ConditionTimeoutException.class, () ->
+            assertThat(legoals)
+                .is(
+                    eventually()
+                        .within(100, MILLISECONDS)
+                        .goingTo(
+                            it -> it.hasFieldOrPropertyWithValue("age", 9_999)))
+        );
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start))
+            .isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void eventualCondition_shouldPassImmediately_withPollStrategy() {
+        Elf legoals = new Elf("Legolas");
+        long start = System.nanoTime();
+
+        assertThat(legoals)
+            .is(
+                eventually()
+                    .checking(PollIntervals.fastThenSlow(Duration.ofSeconds(1), 0, Duration.ofSeconds(1)))
+                    .goingTo(
+                        it -> it.hasFieldOrPropertyWithValue("name", "Legolas")));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start))
+            .isLessThan(Duration.ofMillis(500));
+    }
+
+    @Test
+    void eventualCondition_shouldPass_withPollStrategy() {
+        Elf legoals = new Elf("Legolas");
+
+        runAsync(() -> IntStream.range(0, 1_000)
+            .peek(__ -> sleep(5L))
+            .forEach(legoals::setAge));
+
+        assertThat(legoals)
+            .is(
+                eventually()
+                    .checking(PollIntervals.exponential(Duration.ofMillis(1), 1.5, Duration.ofMillis(20)))
+                    .goingTo(
+                        it -> it.extracting("age", INTEGER).isGreaterThanOrEqualTo(555)));
+    }
+
+    @Test
+    void eventualCondition_shouldPass_withLowLatency() {
+        Elf legoals = new Elf("Legolas");
+
+        runAsync(() -> IntStream.range(0, 1_000)
+            .peek(__ -> sleep(1L))
+            .forEach(legoals::setAge));
+
+        assertThat(legoals)
+            .is(
+                eventually()
+                    .withLowLatency()
+                    .goingTo(
+                        it -> it.extracting("age", INTEGER).isGreaterThanOrEqualTo(555)));
+    }
+
+    @Test
+    void eventualCondition_shouldFail_withLowLatency() {
+        Elf legoals = new Elf("Legolas");
+
+        ConditionTimeoutException timeout = assertThrows(ConditionTimeoutException.class, () ->
+            assertThat(legoals)
+                .is(
+                    eventually()
+                        .withLowLatency()
+                        .within(50, MILLISECONDS)
+                        .goingTo(
+                            it -> it.hasFieldOrPropertyWithValue("age", 9_999)))
+        );
+
+        assertThat(timeout).hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void eventualCondition_shouldWakeOnCompletionStage() {
+        Elf legoals = new Elf("Legolas");
+        CompletableFuture<Void> birthday = runAsync(() -> {
+            sleep(50L);
+            legoals.setAge(555);
+        });
+
+        assertThat(legoals)
+            .is(
+                eventually()
+                    .checkingEvery(1, MINUTES)
+                    .wakingOn(birthday)
+                    .goingTo(
+                        it -> it.hasFieldOrPropertyWithValue("age", 555)));
+    }
+
+    @Test
+    void eventualCondition_shouldWakeOnPublisher() {
+        Elf legoals = new Elf("Legolas");
+        SubmissionPublisher<Integer> birthdays = new SubmissionPublisher<>();
+        runAsync(() -> IntStream.rangeClosed(1, 555)
+            .peek(legoals::setAge)
+            .forEach(birthdays::submit));
+
+        assertThat(legoals)
+            .is(
+                eventually()
+                    .checkingEvery(1, MINUTES)
+                    .wakingOn(birthdays)
+                    .goingTo(
+                        it -> it.extracting("age", INTEGER).isGreaterThanOrEqualTo(555)));
+    }
+
+    @Test
+    void eventualCondition_shouldWakeWhenNotified() {
+        Elf legoals = new Elf("Legolas");
+        List<Runnable> birthdayListeners = new CopyOnWriteArrayList<>();
+        runAsync(() -> {
+            sleep(50L);
+            legoals.setAge(555);
+            birthdayListeners.forEach(Runnable::run);
+        });
+
+        assertThat(legoals)
+            .is(
+                eventually()
+                    .checkingEvery(1, MINUTES)
+                    .wakingWhen(birthdayListeners::add)
+                    .goingTo(
+                        it -> it.hasFieldOrPropertyWithValue("age", 555)));
+    }
+
+    @Test
+    void eventualCondition_shouldBeEvaluatedOnCallerThread() {
+        Thread testThread = Thread.currentThread();
+
+        assertThat(new Elf("Legolas"))
+            .is(
+                eventually()
+                    .evaluatedOn(EvaluationMode.CALLER_THREAD)
+                    .goingTo(
+                        it -> it.matches(__ -> Thread.currentThread() == testThread)));
+    }
+
+    @Test
+    void eventualCondition_shouldBeEvaluatedOnVirtualThreads() {
+        assertThat(new Elf("Legolas"))
+            .is(
+                eventually()
+                    .evaluatedOn(EvaluationMode.SHARED_VIRTUAL_THREADS)
+                    .goingTo(
+                        it -> it.matches(__ -> Thread.currentThread().isVirtual())));
+    }
+
+    @Test
+    void eventualCondition_shouldRenderOnlyFinalFailure_withLazyFailureMessages() {
+        AtomicInteger renderings = new AtomicInteger();
+        Object hugeObject = new Object() {
+            @Override
+            public String toString() {
+                renderings.incrementAndGet();
+                return "huge object";
+            }
+        };
+
+        assertThrows(AssertionError.class, () -> assertThat(hugeObject).isNull());
+        int renderingsOfOneFailure = renderings.getAndSet(0);
+
+        ConditionTimeoutException timeout = assertThrows(ConditionTimeoutException.class, () ->
+            assertThat(hugeObject)
+                .is(
+                    eventually()
+                        .within(200, MILLISECONDS)
+                        .withLazyFailureMessages()
+                        .goingTo(
+                            it -> it.isNull()))
+        );
+
+        assertThat(timeout)
+            .hasMessageContaining("huge object")
+            .cause().hasMessageContaining("huge object");
+        assertThat(renderings)
+            .hasValue(renderingsOfOneFailure);
+    }
+
+    @Test
+    void eachFetchingAndAllEventually_shouldRenderOnlyFinalFailure_withLazyFailureMessages() {
+        AtomicInteger renderings = new AtomicInteger();
+        Object hugeObject = new Object() {
+            @Override
+            public String toString() {
+                renderings.incrementAndGet();
+                return "huge object";
+            }
+        };
+
+        assertThrows(AssertionError.class, () -> assertThat(hugeObject).isNull());
+        int renderingsOfOneFailure = renderings.getAndSet(0);
+
+        ConditionTimeoutException each = assertThrows(ConditionTimeoutException.class, () ->
+            assertThat(List.of(hugeObject))
+                .is(eventually()
+                    .within(200, MILLISECONDS)
+                    .withLazyFailureMessages()
+                    .eachGoingTo(it -> it.isNull()))
+        );
+        assertThat(each).cause().hasMessageContaining("huge object");
+        assertThat(renderings.getAndSet(0)).isEqualTo(renderingsOfOneFailure);
+
+        ConditionTimeoutException fetching = assertThrows(ConditionTimeoutException.class, () ->
+            eventually()
+                .within(200, MILLISECONDS)
+                .withLazyFailureMessages()
+                .fetching(() -> hugeObject)
+                .goingTo(it -> it.isNull())
+        );
+        assertThat(fetching).cause().hasMessageContaining("huge object");
+        assertThat(renderings.getAndSet(0)).isEqualTo(renderingsOfOneFailure);
+
+        ConditionTimeoutException all = assertThrows(ConditionTimeoutException.class, () ->
+            allEventually()
+                .that(hugeObject, it -> it.isNull())
+                .within(200, MILLISECONDS)
+                .withLazyFailureMessages()
+                .await()
+        );
+        assertThat(all).cause().hasMessageContaining("huge object");
+        assertThat(renderings.getAndSet(0)).isEqualTo(renderingsOfOneFailure);
+    }
+
+    @Test
+    void allEventually_shouldPass() {
+        Elf legolas = new Elf("Legolas");
+        Elf gimli = new Elf("Gimli");
+
+        runAsync(() -> IntStream.range(0, 1_000)
+            .peek(__ -> sleep(1L))
+            .forEach(legolas::setAge));
+        runAsync(() -> IntStream.range(0, 1_000)
+            .peek(__ -> sleep(1L))
+            .forEach(gimli::setAge));
+
+        allEventually()
+            .that(legolas, it -> it.extracting("age", INTEGER).isGreaterThanOrEqualTo(555))
+            .that(gimli, it -> it.extracting("age", INTEGER).isGreaterThanOrEqualTo(139))
+            .within(5, SECONDS)
+            .await();
+    }
+
+    @Test
+    void allEventually_shouldReportAllFailures() {
+        Elf legolas = new Elf("Legolas");
+        Elf gimli = new Elf("Gimli");
+        Elf frodo = new Elf("Frodo");
+
+        ConditionTimeoutException timeout = assertThrows(ConditionTimeoutException.class, () ->
+            allEventually()
+                .that(legolas, it -> it.hasFieldOrPropertyWithValue("age", 555))
+                .that(gimli, it -> it.hasFieldOrPropertyWithValue("name", "Gimli"))
+                .that(frodo, it -> it.hasFieldOrPropertyWithValue("age", 50))
+                .within(500, MILLISECONDS)
+                .await()
+        );
+
+        assertThat(timeout.getCause())
+            .hasMessageStartingWith("2 of 3 assertions failed")
+            .hasMessageContainingAll("555", "50");
+    }
+
+    @Test
+    void eventuallyEach_shouldPass() {
+        List<Elf> elves = IntStream.range(0, 1_000)
+            .mapToObj(i -> new Elf("Elf " + i))
+            .toList();
+
+        runAsync(() -> elves.forEach(elf -> elf.setAge(100)));
+
+        assertThat(elves)
+            .is(eventuallyEach(
+                it -> it.hasFieldOrPropertyWithValue("age", 100)));
+    }
+
+    @Test
+    void eventuallyEach_shouldPass_inParallel() {
+        List<Elf> elves = IntStream.range(0, 1_000)
+            .mapToObj(i -> new Elf("Elf " + i))
+            .toList();
+
+        runAsync(() -> elves.forEach(elf -> elf.setAge(100)));
+
+        assertThat(elves)
+            .is(eventually()
+                .checkingElementsInParallel()
+                .eachGoingTo(
+                    it -> it.hasFieldOrPropertyWithValue("age", 100)));
+    }
+
+    @Test
+    void eventuallyEach_shouldReportPendingElements() {
+        List<Elf> elves = IntStream.range(0, 100)
+            .mapToObj(i -> new Elf("Elf " + i))
+            .toList();
+        elves.subList(0, 50).forEach(elf -> elf.setAge(100));
+
+        ConditionTimeoutException timeout = assertThrows(ConditionTimeoutException.class, () ->
+            assertThat(elves)
+                .is(eventually()
+                    .within(500, MILLISECONDS)
+                    .eachGoingTo(
+                        it -> it.hasFieldOrPropertyWithValue("age", 100)))
+        );
+
+        assertThat(timeout.getCause())
+            .hasMessageStartingWith("50 of 100 elements did not satisfy the assertion")
+            .hasMessageContaining("element [50]")
+            .hasMessageEndingWith("... and 40 more");
+    }
+
+    @Test
+    void fetching_shouldRefetchUntilAssertionPasses() {
+        AtomicInteger version = new AtomicInteger();
+        runAsync(() -> IntStream.range(0, 10)
+            .peek(__ -> sleep(5L))
+            .forEach(__ -> version.incrementAndGet()));
+
+        Elf legolas = eventually()
+            .within(5, SECONDS)
+            .fetching(() -> new Elf("Legolas", version.get()))
+            .goingTo(
+                it -> it.hasFieldOrPropertyWithValue("age", 10));
+
+        assertThat(legolas.name).isEqualTo("Legolas");
+    }
+
+    @Test
+    void fetching_shouldSkipAssertionWhenVersionIsUnchanged() {
+        AtomicInteger version = new AtomicInteger();
+        AtomicInteger assertions = new AtomicInteger();
+        runAsync(() -> IntStream.range(0, 10)
+            .peek(__ -> sleep(20L))
+            .forEach(__ -> version.incrementAndGet()));
+
+        eventually()
+            .within(5, SECONDS)
+            .checking(PollIntervals.fastThenSlow(Duration.ofMillis(1), 0, Duration.ofMillis(1)))
+            .fetching(() -> new Elf("Legolas", version.get()))
+            .skippingUnchanged(elf -> elf.age)
+            .goingTo(
+                it -> it.matches(__ -> assertions.incrementAndGet() > 0)
+                    .hasFieldOrPropertyWithValue("age", 10));
+
+        assertThat(assertions).hasValue(11);
+    }
+
+    @Test
+    void eventuallyAsync_shouldCompleteConcurrently() {
+        List<Elf> elves = IntStream.range(0, 100)
+            .mapToObj(i -> new Elf("Elf " + i))
+            .toList();
+        runAsync(() -> elves.forEach(elf -> elf.setAge(100)));
+
+        CompletableFuture.allOf(elves.stream()
+                .map(elf -> eventuallyAsync(elf, it -> it.hasFieldOrPropertyWithValue("age", 100)))
+                .toArray(CompletableFuture[]::new))
+            .join();
+    }
+
+    @Test
+    void eventuallyAsync_shouldFailWithLastAssertionError() {
+        Elf legolas = new Elf("Legolas");
+
+        CompletableFuture<Void> future = eventually()
+            .within(100, MILLISECONDS)
+            .checking(PollIntervals.fibonacci(Duration.ofMillis(1), Duration.ofMillis(20)))
+            .goingToAsync(legolas, it -> it.hasFieldOrPropertyWithValue("age", 555));
+
+        assertThat(future)
+            .failsWithin(Duration.ofSeconds(5))
+            .withThrowableOfType(ExecutionException.class)
+            .havingCause()
+            .withMessageContaining("555")
+            .isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void telemetry_shouldReportWaitsAndCalibrateTimeouts(@TempDir Path tempDir) throws Exception {
+        Path report = tempDir.resolve("telemetry.json");
+        EventualTelemetry telemetry = new EventualTelemetry(report, EventualTelemetry.Calibration.OFF);
+        AtomicInteger polls = new AtomicInteger();
+        Waiter waiter = telemetry.recording(
+            "Elves.legolas:42",
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5),
+            new SpinThenParkWaiter(Duration.ofSeconds(5)));
+
+        waiter.untilAsserted(() -> assertThat(polls.incrementAndGet()).isEqualTo(3));
+        telemetry.writeReport();
+
+        assertThat(report).content()
+            .contains("\"callSite\": \"Elves.legolas:42\"", "\"count\": 1", "\"timeouts\": 0", "\"maxPolls\": 3")
+            .contains("\"suggestedTimeoutMillis\": 500", "\"suggestedPollIntervalMillis\": 1");
+
+        EventualTelemetry calibrated = new EventualTelemetry(report, EventualTelemetry.Calibration.APPLY);
+        assertThat(calibrated.timeout("Elves.legolas:42", Duration.ofSeconds(5)))
+            .isEqualTo(Duration.ofMillis(500));
+        assertThat(calibrated.timeout("Elves.legolas:42", Duration.ofMillis(100)))
+            .isEqualTo(Duration.ofMillis(100));
+        assertThat(calibrated.timeout("Elves.gimli:7", null))
+            .isNull();
+        assertThat(calibrated.pollInterval("Elves.legolas:42").next(1, Duration.ZERO))
+            .isEqualTo(Duration.ofMillis(1));
+
+        calibrated.recording("Elves.gimli:7", null, null, new SpinThenParkWaiter(Duration.ofSeconds(5)))
+            .untilAsserted(() -> {});
+        calibrated.writeReport();
+
+        assertThat(report).content()
+            .contains("\"callSite\": \"Elves.gimli:7\"", "\"callSite\": \"Elves.legolas:42\"", "\"maxPolls\": 3");
+        assertThat(new EventualTelemetry(report, EventualTelemetry.Calibration.APPLY)
+                .timeout("Elves.legolas:42", Duration.ofSeconds(5)))
+            .isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    void telemetry_shouldIgnoreUnknownCalibration() {
+        assertThat(EventualTelemetry.calibration("Apply")).isEqualTo(EventualTelemetry.Calibration.APPLY);
+        assertThat(EventualTelemetry.calibration("aply")).isEqualTo(EventualTelemetry.Calibration.OFF);
+    }
+
+    @Test
+    void emitting_shouldCheckElementsInBoundedBatches() {
+        AtomicInteger emitted = new AtomicInteger();
+
+        List<Integer> elements = eventually()
+            .within(5, SECONDS)
+            .emitting(counting(1_000, emitted))
+            .requesting(10)
+            .keepingLast(5)
+            .goingTo(it -> it.contains(42));
+
+        assertThat(elements).containsExactly(41, 42, 43, 44, 45);
+        assertThat(emitted).hasValue(45);
+    }
+
+    @Test
+    void emitting_shouldNotLeaveItsSignalOnTheBuilder() {
+        AssertjAndAwaitility.EventualCondition.Builder<Object> builder = eventually().within(5, SECONDS);
+
+        List<Integer> elements = builder.<Integer>emitting(counting(1_000, new AtomicInteger()))
+            .goingTo(it -> it.contains(3));
+
+        assertThat(elements).contains(3);
+        assertThat(builder.waiter()).isNotInstanceOf(SignalWaiter.class);
+    }
+
+    @Test
+    void emitting_shouldFailWhenPublisherCompletes() {
+        ConditionTimeoutException exception = assertThrows(
+            ConditionTimeoutException.class,
+            () -> eventually()
+                .within(5, SECONDS)
+                .emitting(counting(3, new AtomicInteger()))
+                .goingTo(it -> it.contains(42)));
+
+        assertThat(exception)
+            .hasMessage("The publisher completed after 3 elements, without fulfilling the condition")
+            .cause()
+            .hasMessageContaining("42");
+    }
+
+    private static Flow.Publisher<Integer> counting(int limit, AtomicInteger emitted) {
+        return subscriber -> subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n && emitted.get() < limit; i++) {
+                    subscriber.onNext(emitted.incrementAndGet());
+                }
+                if (emitted.get() == limit) {
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {}
+        });
+    }
+
+    @Test
+    void consistently_shouldSampleForTheWholeDuration() {
+        Elf legolas = new Elf("Legolas", 555);
+        AtomicInteger samples = new AtomicInteger();
+        long start = System.nanoTime();
+
+        assertThat(legolas)
+            .is(consistently()
+                .during(200, MILLISECONDS)
+                .checkingEvery(10, MILLISECONDS)
+                .goingTo(it -> it.matches(__ -> samples.incrementAndGet() > 0)
+                    .hasFieldOrPropertyWithValue("age", 555)));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+        assertThat(samples).hasValueGreaterThan(10);
+    }
+
+    @Test
+    void consistently_shouldStopAtFirstViolation() {
+        Elf legolas = new Elf("Legolas", 555);
+        runAsync(() -> {
+            sleep(50L);
+            legolas.setAge(556);
+        });
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> assertThat(legolas)
+                .is(consistently()
+                    .during(1, MINUTES)
+                    .checkingEvery(5, MILLISECONDS)
+                    .goingTo(it -> it.hasFieldOrPropertyWithValue("age", 555))))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageStartingWith("Condition was violated at sample #")
+            .hasMessageContaining("passed, +")
+            .hasMessageEndingWith("ms FAILED")
+            .cause()
+            .hasMessageContaining("556");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+    }
+
     // spotless:on
 
     private void sleep(long millis) {
@@ -141,6 +689,11 @@ class AssertjAndAwaitlityTest {
             this.name = name;
         }
 
+        Elf(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
         public void setAge(int age) {
             this.age = age;
         }
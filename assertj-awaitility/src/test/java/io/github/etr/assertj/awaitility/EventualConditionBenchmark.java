@@ -0,0 +1,76 @@
+package io.github.etr.assertj.awaitility;
+
+import static io.github.etr.assertj.awaitility.AssertjAndAwaitility.eventually;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long an eventual condition takes to detect an asynchronous hand-off, which completes within
+ * microseconds, on another thread.
+ *
+ * <pre>{@code
+ * mvn -pl assertj-awaitility test-compile exec:exec \
+ *     -Dexec.classpathScope=test \
+ *     -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main EventualConditionBenchmark"
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventualConditionBenchmark {
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void startExecutor() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public AtomicBoolean awaitilityDefaults() {
+        return handOff(eventually());
+    }
+
+    @Benchmark
+    public AtomicBoolean awaitilityPollingEveryMillisecond() {
+        return handOff(AssertjAndAwaitility.<AtomicBoolean>eventually().checkingEvery(1, MILLISECONDS));
+    }
+
+    @Benchmark
+    public AtomicBoolean lowLatency() {
+        return handOff(AssertjAndAwaitility.<AtomicBoolean>eventually().withLowLatency());
+    }
+
+    private AtomicBoolean handOff(AssertjAndAwaitility.EventualCondition.Builder<AtomicBoolean> eventually) {
+        AtomicBoolean done = new AtomicBoolean();
+        executor.execute(() -> done.set(true));
+        assertThat(done).is(eventually.goingTo(it -> it.matches(AtomicBoolean::get)));
+        return done;
+    }
+}
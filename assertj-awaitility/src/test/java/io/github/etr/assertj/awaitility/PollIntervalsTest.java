@@ -0,0 +1,52 @@
+package io.github.etr.assertj.awaitility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.awaitility.pollinterval.PollInterval;
+import org.junit.jupiter.api.Test;
+
+class PollIntervalsTest {
+
+    @Test
+    void fibonacci_shouldGrowUpToMax() {
+        PollInterval fibonacci = PollIntervals.fibonacci(Duration.ofMillis(10), Duration.ofMillis(70));
+
+        assertThat(intervals(fibonacci, 8)).containsExactly(10L, 10L, 20L, 30L, 50L, 70L, 70L, 70L);
+    }
+
+    @Test
+    void exponential_shouldGrowUpToMax() {
+        PollInterval exponential = PollIntervals.exponential(Duration.ofMillis(10), 2, Duration.ofMillis(100));
+
+        assertThat(intervals(exponential, 6)).containsExactly(10L, 20L, 40L, 80L, 100L, 100L);
+    }
+
+    @Test
+    void fastThenSlow_shouldSwitchAfterFastPolls() {
+        PollInterval fastThenSlow = PollIntervals.fastThenSlow(Duration.ofMillis(1), 3, Duration.ofMillis(50));
+
+        assertThat(intervals(fastThenSlow, 5)).containsExactly(1L, 1L, 1L, 50L, 50L);
+    }
+
+    @Test
+    void shouldRejectInvalidIntervals() {
+        assertThatThrownBy(() -> PollIntervals.fibonacci(Duration.ZERO, Duration.ofMillis(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PollIntervals.exponential(Duration.ofMillis(1), 0.5, Duration.ofMillis(10)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Long> intervals(PollInterval strategy, int polls) {
+        List<Long> intervals = new ArrayList<>();
+        Duration previous = Duration.ZERO;
+        for (int pollCount = 1; pollCount <= polls; pollCount++) {
+            previous = strategy.next(pollCount, previous);
+            intervals.add(previous.toMillis());
+        }
+        return intervals;
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.etr.assertj.awaitility;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.assertj.core.api.AbstractAssert;
+import org.mockito.ArgumentMatcher;
+
+/**
+ * An argument matcher backed by an AssertJ assertion, which doesn't propagate the assertion's failure.
+ *
+ * <p>A busy mock is compared against many invocations, most of which don't match. Instead of failing the
+ * verification at the first one, each mismatch is reported to Mockito as {@code false}. Meanwhile, the arguments
+ * are rendered as placeholders, so the failure messages which are thrown away are cheap to build. Only the last
+ * mismatching argument is kept, and its failure is rendered in full when Mockito describes the matcher, once
+ * nothing matched.
+ *
+ * <p>The last mismatch is kept on purpose, rather than the closest one: an assertion chain stops at its first
+ * failing check, so there is no cheap and meaningful way to tell which mismatch came closest.
+ *
+ * @param <T> the type of the argument
+ * @param <ASSERT> the type of the assertion applied to the argument
+ */
+final class AssertionMatcher<T, ASSERT extends AbstractAssert<?, ?>> implements ArgumentMatcher<T> {
+
+    private static final Object NO_MISMATCH = new Object();
+
+    private final Function<T, ASSERT> assertThat;
+    private final Consumer<ASSERT> assertion;
+    private volatile Object lastMismatch = NO_MISMATCH;
+
+    AssertionMatcher(Function<T, ASSERT> assertThat, Consumer<ASSERT> assertion) {
+        this.assertThat = assertThat;
+        this.assertion = assertion;
+    }
+
+    @Override
+    public boolean matches(T argument) {
+        try {
+            ASSERT check = assertThat.apply(argument);
+            check.withRepresentation(PlaceholderRepresentation.INSTANCE);
+            assertion.accept(check);
+            return true;
+        } catch (AssertionError e) {
+            lastMismatch = argument;
+            return false;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String toString() {
+        Object mismatch = lastMismatch;
+        if (mismatch == NO_MISMATCH) {
+            return "<argument satisfying the assertion>";
+        }
+        try {
+            assertion.accept(assertThat.apply((T) mismatch));
+            return "<argument satisfying the assertion>";
+        } catch (AssertionError e) {
+            return e.getMessage();
+        }
+    }
+}
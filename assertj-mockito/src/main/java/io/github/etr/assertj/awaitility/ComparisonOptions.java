@@ -0,0 +1,75 @@
+package io.github.etr.assertj.awaitility;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Configures the field-by-field comparison of {@link MockitoAndAssertJ#argEqualTo(Object, java.util.function.UnaryOperator)}.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * verify(mock).process(
+ *   argEqualTo(expectedOrder, it -> it
+ *     .ignoringFields("id", "customer.lastLogin")
+ *     .ignoringFieldsOfTypes(Instant.class))
+ * );
+ * }</pre>
+ */
+public final class ComparisonOptions {
+
+    private final IgnoredFields ignoredFields = new IgnoredFields();
+    private final Set<Class<?>> ignoredTypes = new HashSet<>();
+
+    ComparisonOptions() {}
+
+    /**
+     * Ignores the fields with the given paths, such as {@code "id"} or {@code "customer.address.street"}.
+     */
+    public ComparisonOptions ignoringFields(String... paths) {
+        for (String path : paths) {
+            IgnoredFields node = ignoredFields;
+            for (String name : path.split("\\.")) {
+                node = node.children.computeIfAbsent(name, __ -> new IgnoredFields());
+            }
+            node.ignored = true;
+        }
+        return this;
+    }
+
+    /**
+     * Ignores the fields whose values are instances of the given types.
+     */
+    public ComparisonOptions ignoringFieldsOfTypes(Class<?>... types) {
+        ignoredTypes.addAll(Set.of(types));
+        return this;
+    }
+
+    IgnoredFields ignoredFields() {
+        return ignoredFields;
+    }
+
+    Set<Class<?>> ignoredTypes() {
+        return Set.copyOf(ignoredTypes);
+    }
+
+    /**
+     * The ignored field paths, as a tree, so that the comparison can follow it without building the paths.
+     */
+    static final class IgnoredFields {
+        static final IgnoredFields NONE = new IgnoredFields();
+
+        private final Map<String, IgnoredFields> children = new HashMap<>();
+        private boolean ignored;
+
+        boolean ignored() {
+            return ignored;
+        }
+
+        IgnoredFields child(String name) {
+            return children.isEmpty() ? NONE : children.getOrDefault(name, NONE);
+        }
+    }
+}
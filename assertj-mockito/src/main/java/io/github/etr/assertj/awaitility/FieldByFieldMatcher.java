@@ -0,0 +1,314 @@
+package io.github.etr.assertj.awaitility;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.mockito.ArgumentMatcher;
+
+/**
+ * An argument matcher comparing the argument with an expected object, field by field, recursively.
+ *
+ * <p>The fields of each class are resolved once, and cached as {@link MethodHandle}s. While matching, the comparison
+ * stops at the first difference. Only the last mismatching argument is kept, and it is compared again, collecting
+ * all the differences, when Mockito describes the matcher, once nothing matched.
+ *
+ * <p>Lists and arrays are compared element by element, maps entry by entry, sets by pairing each expected element
+ * with an actual one, and optionals by their values. Arrays of primitives, enums, the JDK types, such as strings,
+ * numbers, dates or paths, and the classes whose fields can't be accessed are compared using {@code equals}. Other
+ * objects must have the same class.
+ *
+ * @param <T> the type of the argument
+ */
+final class FieldByFieldMatcher<T> implements ArgumentMatcher<T> {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final Object NO_MISMATCH = new Object();
+
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    /**
+     * The fields of each class, or nothing for the classes compared using {@code equals}.
+     */
+    private static final ClassValue<Optional<List<FieldGetter>>> FIELDS = new ClassValue<>() {
+        @Override
+        protected Optional<List<FieldGetter>> computeValue(Class<?> type) {
+            return fieldGetters(type);
+        }
+    };
+
+    private final T expected;
+    private final ComparisonOptions.IgnoredFields ignoredFields;
+    private final ClassValue<Boolean> ignoredTypes;
+    private volatile Object lastMismatch = NO_MISMATCH;
+
+    FieldByFieldMatcher(T expected, ComparisonOptions options) {
+        this.expected = expected;
+        this.ignoredFields = options.ignoredFields();
+        this.ignoredTypes = ignoredTypes(options.ignoredTypes());
+    }
+
+    @Override
+    public boolean matches(T argument) {
+        if (new Comparison(null).compare(argument, expected, ignoredFields, null)) {
+            return true;
+        }
+        lastMismatch = argument;
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        String description = "argument equal field by field to " + expected;
+        Object mismatch = lastMismatch;
+        if (mismatch == NO_MISMATCH) {
+            return "<" + description + ">";
+        }
+        List<String> differences = new ArrayList<>();
+        new Comparison(differences).compare(mismatch, expected, ignoredFields, "");
+        return differences.stream()
+                .collect(Collectors.joining(
+                        "\n  - ", description + ", but the last mismatching argument differed in:\n  - ", ""));
+    }
+
+    private static ClassValue<Boolean> ignoredTypes(Set<Class<?>> types) {
+        if (types.isEmpty()) {
+            return null;
+        }
+        return new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                return types.stream().anyMatch(ignored -> ignored.isAssignableFrom(type));
+            }
+        };
+    }
+
+    private static boolean isComparedWithEquals(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        if (type.isEnum() || loader == null || loader == ClassLoader.getPlatformClassLoader()) {
+            return true;
+        }
+        String name = type.getName();
+        return JDK_PACKAGES.stream().anyMatch(name::startsWith);
+    }
+
+    private static Optional<List<FieldGetter>> fieldGetters(Class<?> type) {
+        if (isComparedWithEquals(type)) {
+            return Optional.empty();
+        }
+        List<FieldGetter> getters = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    getters.add(new FieldGetter(
+                            field.getName(),
+                            MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE)));
+                } catch (InaccessibleObjectException e) {
+                    return Optional.empty();
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot access field: " + field, e);
+                }
+            }
+        }
+        return Optional.of(List.copyOf(getters));
+    }
+
+    private record FieldGetter(String name, MethodHandle getter) {
+
+        Object get(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * A single comparison, which either stops at the first difference, or collects all of them.
+     * The paths of the compared values are only built when collecting the differences.
+     */
+    private final class Comparison {
+        private final List<String> differences;
+        private Map<Object, Object> visited;
+
+        Comparison(List<String> differences) {
+            this.differences = differences;
+        }
+
+        boolean compare(Object actual, Object expected, ComparisonOptions.IgnoredFields ignores, String path) {
+            if (actual == expected) {
+                return true;
+            }
+            if (actual == null || expected == null) {
+                return differ(path, actual, expected);
+            }
+            if (actual instanceof List<?> actualList && expected instanceof List<?> expectedList) {
+                return compareElements(actualList, expectedList, ignores, path);
+            }
+            if (actual instanceof Map<?, ?> actualMap && expected instanceof Map<?, ?> expectedMap) {
+                return compareEntries(actualMap, expectedMap, ignores, path);
+            }
+            if (actual instanceof Set<?> actualSet && expected instanceof Set<?> expectedSet) {
+                return compareMembers(actualSet, expectedSet, ignores, path);
+            }
+            if (actual instanceof Optional<?> actualValue && expected instanceof Optional<?> expectedValue) {
+                if (actualValue.isEmpty() || expectedValue.isEmpty()) {
+                    return actualValue.isEmpty() == expectedValue.isEmpty() || differ(path, actual, expected);
+                }
+                return compare(actualValue.get(), expectedValue.get(), ignores, path);
+            }
+            Class<?> type = expected.getClass();
+            if (actual.getClass() != type) {
+                return differ(path, actual, expected);
+            }
+            if (type.isArray()) {
+                if (type.getComponentType().isPrimitive()) {
+                    return Objects.deepEquals(actual, expected) || differ(path, actual, expected);
+                }
+                return compareElements(
+                        Arrays.asList((Object[]) actual), Arrays.asList((Object[]) expected), ignores, path);
+            }
+            Optional<List<FieldGetter>> fields = FIELDS.get(type);
+            if (fields.isEmpty()) {
+                return Objects.equals(actual, expected) || differ(path, actual, expected);
+            }
+            if (!visit(actual, expected)) {
+                return true;
+            }
+
+            boolean equal = true;
+            for (FieldGetter field : fields.get()) {
+                ComparisonOptions.IgnoredFields fieldIgnores = ignores.child(field.name());
+                if (fieldIgnores.ignored()) {
+                    continue;
+                }
+                Object actualValue = field.get(actual);
+                Object expectedValue = field.get(expected);
+                if (isOfIgnoredType(actualValue) || isOfIgnoredType(expectedValue)) {
+                    continue;
+                }
+                if (!compare(actualValue, expectedValue, fieldIgnores, child(path, field.name()))) {
+                    equal = false;
+                    if (differences == null) {
+                        return false;
+                    }
+                }
+            }
+            return equal;
+        }
+
+        private boolean compareElements(
+                List<?> actual, List<?> expected, ComparisonOptions.IgnoredFields ignores, String path) {
+            if (actual.size() != expected.size()) {
+                return differ(path, actual, expected);
+            }
+            boolean equal = true;
+            Iterator<?> actualElements = actual.iterator();
+            Iterator<?> expectedElements = expected.iterator();
+            for (int i = 0; actualElements.hasNext(); i++) {
+                if (!compare(actualElements.next(), expectedElements.next(), ignores, index(path, i))) {
+                    equal = false;
+                    if (differences == null) {
+                        return false;
+                    }
+                }
+            }
+            return equal;
+        }
+
+        private boolean compareEntries(
+                Map<?, ?> actual, Map<?, ?> expected, ComparisonOptions.IgnoredFields ignores, String path) {
+            if (!actual.keySet().equals(expected.keySet())) {
+                return differ(path, actual, expected);
+            }
+            boolean equal = true;
+            for (Map.Entry<?, ?> entry : expected.entrySet()) {
+                Object key = entry.getKey();
+                if (!compare(actual.get(key), entry.getValue(), ignores, index(path, key))) {
+                    equal = false;
+                    if (differences == null) {
+                        return false;
+                    }
+                }
+            }
+            return equal;
+        }
+
+        /**
+         * Pairs each expected member with a distinct actual one, equal field by field, in quadratic time.
+         */
+        private boolean compareMembers(
+                Set<?> actual, Set<?> expected, ComparisonOptions.IgnoredFields ignores, String path) {
+            if (actual.size() != expected.size()) {
+                return differ(path, actual, expected);
+            }
+            List<Object> unpaired = new LinkedList<>(actual);
+            for (Object member : expected) {
+                Iterator<Object> candidates = unpaired.iterator();
+                boolean paired = false;
+                while (!paired && candidates.hasNext()) {
+                    paired = new Comparison(null).compare(candidates.next(), member, ignores, null);
+                }
+                if (!paired) {
+                    return differ(path, actual, expected);
+                }
+                candidates.remove();
+            }
+            return true;
+        }
+
+        private boolean isOfIgnoredType(Object value) {
+            return value != null && ignoredTypes != null && ignoredTypes.get(value.getClass());
+        }
+
+        /**
+         * Marks the pair as being compared, and returns false if it already was, to stop at cycles.
+         */
+        private boolean visit(Object actual, Object expected) {
+            if (visited == null) {
+                visited = new IdentityHashMap<>();
+            }
+            return visited.put(actual, expected) != expected;
+        }
+
+        private boolean differ(String path, Object actual, Object expected) {
+            if (differences != null) {
+                differences.add(
+                        "%s: expected %s but was %s".formatted(path.isEmpty() ? "<argument>" : path, expected, actual));
+            }
+            return false;
+        }
+
+        private String child(String path, String name) {
+            if (path == null) {
+                return null;
+            }
+            return path.isEmpty() ? name : path + "." + name;
+        }
+
+        private String index(String path, Object index) {
+            return path == null ? null : path + "[" + index + "]";
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.etr.assertj.awaitility;
 
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.InstanceOfAssertFactory;
@@ -35,6 +36,10 @@ import org.mockito.Mockito;
  *       factory.
  *   <li>{@link #argHaving(Consumer)} - Creates a Mockito argument matcher using a generic AssertJ
  *       `ObjectAssert`.
+ *   <li>{@link #argWith(Class, UnaryOperator)} - Creates a Mockito argument matcher comparing cached
+ *       properties of the argument.
+ *   <li>{@link #argEqualTo(Object, UnaryOperator)} - Creates a Mockito argument matcher comparing the
+ *       argument with an expected object, field by field.
  *   <li>{@link Arg#that(Consumer)} - Applies custom assertions to arguments using the `Arg`
  *       instance.
  * </ul>
@@ -52,6 +57,9 @@ public class MockitoAndAssertJ {
      * AssertJ assertions. The provided `Consumer` receives an `ObjectAssert` for the argument, which
      * can be used to perform various assertions on the argument's properties.
      *
+     * <p>Arguments failing the assertion are simply not matched, so the other invocations of the mock are still
+     * checked. If none of them matches, the failure of the last mismatching argument is reported.
+     *
      * <p>Example usage:
      *
      * <pre>{@code
@@ -72,10 +80,78 @@ public class MockitoAndAssertJ {
      * @return a Mockito argument matcher that matches arguments satisfying the given assertions
      */
     public static <T> T argHaving(Consumer<ObjectAssert<T>> assertion) {
-        return Mockito.argThat(arg -> {
-            assertion.accept(Assertions.assertThat(arg));
-            return true;
-        });
+        return Mockito.argThat(new AssertionMatcher<T, ObjectAssert<T>>(arg -> Assertions.assertThat(arg), assertion));
+    }
+
+    /**
+     * Creates an argument matcher comparing the properties of the argument with their expected values.
+     *
+     * <p>Unlike {@link #argHaving(Consumer)}, the properties are resolved once per class and cached, and
+     * matching doesn't create any assertion objects. This makes it suitable for mocks verified against many
+     * invocations.
+     *
+     * <p>Example usage:
+     *
+     * <pre>{@code
+     * FooService mock = Mockito.mock(FooService.class);
+     * mock.process(new Account(1L, "John Doe", "johnDoe@gmail.com"));
+     *
+     * Mockito.verify(mock).process(
+     *   MockitoAndAssertJ.argWith(Account.class, it -> it
+     *     .property("accountId", 1L)
+     *     .property(Account::getName, "John Doe"))
+     * );
+     * }</pre>
+     *
+     * @param <T> the type of the argument to be matched
+     * @param type the class of the argument
+     * @param properties a function adding the expected properties to the given `PropertyMatcher`
+     * @return a Mockito argument matcher that matches arguments having all the expected properties
+     * @see PropertyMatcher
+     */
+    public static <T> T argWith(Class<T> type, UnaryOperator<PropertyMatcher<T>> properties) {
+        return Mockito.argThat(properties.apply(new PropertyMatcher<>(type)));
+    }
+
+    /**
+     * Creates an argument matcher comparing the argument with the expected object, field by field, recursively.
+     *
+     * @param <T> the type of the argument to be matched
+     * @param expected the object whose fields are expected
+     * @return a Mockito argument matcher that matches arguments equal to the expected object, field by field
+     * @see #argEqualTo(Object, UnaryOperator)
+     */
+    public static <T> T argEqualTo(T expected) {
+        return argEqualTo(expected, UnaryOperator.identity());
+    }
+
+    /**
+     * Creates an argument matcher comparing the argument with the expected object, field by field, recursively.
+     *
+     * <p>Unlike AssertJ's `usingRecursiveComparison()`, the fields of each class are resolved once and cached, and
+     * the comparison stops at the first difference. The full list of differences is only built for the last
+     * mismatching argument, if the verification fails.
+     *
+     * <p>Example usage:
+     *
+     * <pre>{@code
+     * FooService mock = Mockito.mock(FooService.class);
+     * mock.process(new Account(1L, "John Doe", "johnDoe@gmail.com"));
+     *
+     * Mockito.verify(mock).process(
+     *   MockitoAndAssertJ.argEqualTo(new Account(null, "John Doe", "johnDoe@gmail.com"), it -> it
+     *     .ignoringFields("accountId"))
+     * );
+     * }</pre>
+     *
+     * @param <T> the type of the argument to be matched
+     * @param expected the object whose fields are expected
+     * @param options a function configuring the given `ComparisonOptions`, such as the ignored fields
+     * @return a Mockito argument matcher that matches arguments equal to the expected object, field by field
+     * @see ComparisonOptions
+     */
+    public static <T> T argEqualTo(T expected, UnaryOperator<ComparisonOptions> options) {
+        return Mockito.argThat(new FieldByFieldMatcher<>(expected, options.apply(new ComparisonOptions())));
     }
 
     /**
@@ -109,10 +185,8 @@ public class MockitoAndAssertJ {
 
     private static <T, ASSERT extends AbstractAssert<?, ?>> T argHaving(
             InstanceOfAssertFactory<?, ASSERT> assertionType, Consumer<ASSERT> assertion) {
-        return Mockito.argThat((T arg) -> {
-            assertion.accept(Assertions.assertThat(arg).asInstanceOf(assertionType));
-            return true;
-        });
+        return Mockito.argThat(new AssertionMatcher<T, ASSERT>(
+                arg -> Assertions.assertThat(arg).asInstanceOf(assertionType), assertion));
     }
 
     public static class Arg<ASSERT extends AbstractAssert<?, ?>> {
@@ -0,0 +1,160 @@
+package io.github.etr.assertj.awaitility;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.mockito.ArgumentMatcher;
+
+/**
+ * An argument matcher comparing the properties of an argument with their expected values.
+ *
+ * <p>Properties are given by name, or by method reference. The named ones are resolved once per class, to a getter
+ * ({@code getX()}, {@code isX()} or {@code x()}) or to a field, and cached as {@link MethodHandle}s. This way,
+ * matching an argument involves no reflection and no assertion objects, which matters for mocks verified against
+ * many invocations.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * verify(mock).process(
+ *   argWith(Account.class, it -> it
+ *     .property("accountId", 1L)
+ *     .property(Account::getName, "John Doe"))
+ * );
+ * }</pre>
+ *
+ * @param <T> the type of the argument
+ */
+public final class PropertyMatcher<T> implements ArgumentMatcher<T> {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Map<String, MethodHandle>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<T> type;
+    private final List<Property<T>> properties = new ArrayList<>();
+    private volatile T lastMismatch;
+
+    PropertyMatcher(Class<T> type) {
+        this.type = Objects.requireNonNull(type);
+    }
+
+    /**
+     * Expects the property or field with the given name to be equal to the given value.
+     *
+     * @throws IllegalArgumentException if the type has no such property or field
+     */
+    public PropertyMatcher<T> property(String name, Object expected) {
+        MethodHandle accessor = ACCESSORS.get(type).computeIfAbsent(name, __ -> findAccessor(type, name));
+        properties.add(new Property<>(name, argument -> invoke(accessor, argument), expected));
+        return this;
+    }
+
+    /**
+     * Expects the value returned by the given accessor, usually a method reference, to be equal to the given value.
+     */
+    public <V> PropertyMatcher<T> property(Function<? super T, ? extends V> accessor, V expected) {
+        properties.add(new Property<>("property #" + (properties.size() + 1), accessor, expected));
+        return this;
+    }
+
+    @Override
+    public boolean matches(T argument) {
+        if (!type.isInstance(argument)) {
+            return false;
+        }
+        for (Property<T> property : properties) {
+            if (!property.matches(argument)) {
+                lastMismatch = argument;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        String expected = properties.stream()
+                .map(property -> property.name() + "=" + property.expected())
+                .collect(Collectors.joining(", ", type.getSimpleName() + "[", "]"));
+        T mismatch = lastMismatch;
+        if (mismatch == null) {
+            return expected;
+        }
+        String actual = properties.stream()
+                .filter(property -> !property.matches(mismatch))
+                .map(property -> property.name() + "=" + property.accessor().apply(mismatch))
+                .collect(Collectors.joining(", "));
+        return expected + ", but the last mismatching argument had " + actual;
+    }
+
+    private static Object invoke(MethodHandle accessor, Object argument) {
+        try {
+            return (Object) accessor.invokeExact(argument);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle findAccessor(Class<?> type, String name) {
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        try {
+            for (String getter : List.of("get" + capitalized, "is" + capitalized, name)) {
+                Method method = findGetter(type, getter);
+                if (method != null) {
+                    method.setAccessible(true);
+                    return MethodHandles.lookup().unreflect(method).asType(ACCESSOR_TYPE);
+                }
+            }
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (field.getName().equals(name) && !Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        return MethodHandles.lookup().unreflectGetter(field).asType(ACCESSOR_TYPE);
+                    }
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access property '%s' of %s".formatted(name, type), e);
+        }
+        throw new IllegalArgumentException("%s has no property or field named '%s'".formatted(type, name));
+    }
+
+    private static Method findGetter(Class<?> type, String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.getName().equals(name)
+                        && method.getParameterCount() == 0
+                        && method.getReturnType() != void.class
+                        && !Modifier.isStatic(method.getModifiers())) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    private record Property<T>(String name, Function<? super T, ?> accessor, Object expected) {
+
+        boolean matches(T argument) {
+            return Objects.deepEquals(accessor.apply(argument), expected);
+        }
+    }
+}
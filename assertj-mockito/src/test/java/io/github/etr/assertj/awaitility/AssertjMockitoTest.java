@@ -1,7 +1,9 @@
 package io.github.etr.assertj.awaitility;
 
 import static io.github.etr.assertj.awaitility.MockitoAndAssertJ.arg;
+import static io.github.etr.assertj.awaitility.MockitoAndAssertJ.argEqualTo;
 import static io.github.etr.assertj.awaitility.MockitoAndAssertJ.argHaving;
+import static io.github.etr.assertj.awaitility.MockitoAndAssertJ.argWith;
 import static java.time.LocalDateTime.now;
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static org.assertj.core.api.Assertions.within;
@@ -9,9 +11,14 @@ import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
 import static org.assertj.core.api.InstanceOfAssertFactories.TEMPORAL;
 import static org.mockito.Mockito.verify;
 
+import java.nio.file.Path;
 import java.time.LocalDateTime;
+import java.time.temporal.Temporal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Test;
@@ -32,8 +39,19 @@ class AssertjMockitoTest {
         public void processDateAndList(LocalDateTime date, List<String> list) {
             // some logic ...
         }
+
+        public void processShipment(Shipment data) {
+            // some logic ...
+        }
     }
 
+    record Shipment(
+            Path destination,
+            Optional<Account> recipient,
+            Set<Account> watchers,
+            int[] parcels,
+            LocalDateTime createdAt) {}
+
     static class Account {
 
         Long accountId;
@@ -116,4 +134,158 @@ class AssertjMockitoTest {
                         arg(TEMPORAL).that(it -> it.isCloseTo(now(), within(1_000, MILLIS))),
                         arg(LIST).that(it -> it.containsExactly("A", "B", "C")));
     }
+
+    @Test
+    void argHaving_shouldSkipMismatchingInvocations() {
+        FooService mock = Mockito.mock();
+        for (long id = 0; id < 1_000; id++) {
+            mock.process(new Account(id, "Jane Doe", "janeDoe@gmail.com"));
+        }
+        mock.process(new Account(1L, "John Doe", "johnDoe@gmail.com"));
+
+        verify(mock).process(argHaving(it -> it.hasFieldOrPropertyWithValue("name", "John Doe")));
+    }
+
+    @Test
+    void argHaving_shouldReportLastMismatch() {
+        FooService mock = Mockito.mock();
+        mock.process(new Account(1L, "Jane Doe", "janeDoe@gmail.com"));
+        mock.process(new Account(2L, "John Doe", "johnDoe@gmail.com"));
+
+        Assertions.assertThatThrownBy(() -> verify(mock)
+                        .process(argHaving(it -> it.hasFieldOrPropertyWithValue("email", "johndoe@gmail.com"))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("to have a property or a field named \"email\" with value")
+                .hasMessageContaining("but value was:%n  \"johnDoe@gmail.com\"".formatted())
+                .hasMessageStartingWith("%nArgument(s) are different!".formatted());
+    }
+
+    @Test
+    void argWithProperties() {
+        FooService mock = Mockito.mock();
+        for (long id = 0; id < 1_000; id++) {
+            mock.process(new Account(id, "Jane Doe", "janeDoe@gmail.com"));
+        }
+        mock.process(new Account(1L, "John Doe", "johnDoe@gmail.com"));
+
+        verify(mock).process(argWith(Account.class, it -> it.property("accountId", 1L)
+                .property(Account::getName, "John Doe")
+                .property("email", "johnDoe@gmail.com")));
+    }
+
+    @Test
+    void argWith_shouldDescribeLastMismatch() {
+        FooService mock = Mockito.mock();
+        mock.process(new Account(2L, "John Doe", "johnDoe@gmail.com"));
+
+        Assertions.assertThatThrownBy(
+                        () -> verify(mock).process(argWith(Account.class, it -> it.property("accountId", 1L)
+                                .property(Account::getName, "John Doe"))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining(
+                        "Account[accountId=1, property #2=John Doe], but the last mismatching argument had accountId=2");
+    }
+
+    @Test
+    void argWith_shouldRejectUnknownProperty() {
+        Assertions.assertThatThrownBy(() -> argWith(Account.class, it -> it.property("age", 30)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("no property or field named 'age'");
+    }
+
+    @Test
+    void argEqualToIgnoringFields() {
+        FooService mock = Mockito.mock();
+        for (long id = 0; id < 1_000; id++) {
+            mock.process(new Account(id, "Jane Doe", "janeDoe@gmail.com"));
+        }
+        mock.process(new Account(1_000L, "John Doe", "johnDoe@gmail.com"));
+
+        verify(mock)
+                .process(argEqualTo(
+                        new Account(null, "John Doe", "johnDoe@gmail.com"), it -> it.ignoringFields("accountId")));
+    }
+
+    @Test
+    void argEqualTo_shouldCompareNestedObjects() {
+        FooService mock = Mockito.mock();
+        mock.processDateAndList(LocalDateTime.of(2024, 1, 1, 0, 0), List.of("A", "B", "C"));
+
+        verify(mock)
+                .processDateAndList(argEqualTo(LocalDateTime.of(2024, 1, 1, 0, 0)), argEqualTo(List.of("A", "B", "C")));
+    }
+
+    @Test
+    void argEqualTo_shouldReportAllDifferencesOfLastMismatch() {
+        FooService mock = Mockito.mock();
+        mock.process(new Account(2L, "Jane Doe", "janeDoe@gmail.com"));
+
+        Assertions.assertThatThrownBy(() -> verify(mock)
+                        .process(argEqualTo(
+                                new Account(2L, "John Doe", "johnDoe@gmail.com"),
+                                it -> it.ignoringFieldsOfTypes(Long.class))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("but the last mismatching argument differed in:%n".formatted())
+                .hasMessageContaining("  - name: expected John Doe but was Jane Doe%n".formatted())
+                .hasMessageContaining("  - email: expected johnDoe@gmail.com but was janeDoe@gmail.com")
+                .hasMessageNotContaining("accountId:");
+    }
+
+    @Test
+    void argEqualTo_shouldCompareJdkTypesOptionalsSetsAndPrimitiveArrays() {
+        FooService mock = Mockito.mock();
+        mock.processShipment(new Shipment(
+                Path.of("/tmp/out"),
+                Optional.of(new Account(1L, "John Doe", "johnDoe@gmail.com")),
+                Set.of(new Account(2L, "Jane Doe", "janeDoe@gmail.com"), new Account(3L, "Jim Doe", null)),
+                new int[] {1, 2, 3},
+                now()));
+
+        verify(mock)
+                .processShipment(argEqualTo(
+                        new Shipment(
+                                Path.of("/tmp/out"),
+                                Optional.of(new Account(1L, "John Doe", "johnDoe@gmail.com")),
+                                Set.of(
+                                        new Account(3L, "Jim Doe", null),
+                                        new Account(2L, "Jane Doe", "janeDoe@gmail.com")),
+                                new int[] {1, 2, 3},
+                                null),
+                        it -> it.ignoringFieldsOfTypes(Temporal.class)));
+    }
+
+    @Test
+    void argEqualTo_shouldReportDifferentOptionalsAndSets() {
+        FooService mock = Mockito.mock();
+        mock.processShipment(new Shipment(
+                Path.of("/tmp/out"),
+                Optional.of(new Account(1L, "John Doe", "johnDoe@gmail.com")),
+                Set.of(new Account(2L, "Jane Doe", "janeDoe@gmail.com")),
+                new int[] {1, 2, 3},
+                null));
+
+        Assertions.assertThatThrownBy(() -> verify(mock)
+                        .processShipment(argEqualTo(new Shipment(
+                                Path.of("/tmp/in"),
+                                Optional.of(new Account(1L, "Jane Doe", "johnDoe@gmail.com")),
+                                Set.of(new Account(2L, "John Doe", "janeDoe@gmail.com")),
+                                new int[] {1, 2},
+                                null))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("  - destination: expected /tmp/in but was /tmp/out")
+                .hasMessageContaining("  - recipient.name: expected Jane Doe but was John Doe")
+                .hasMessageContaining("  - watchers: expected [")
+                .hasMessageContaining("  - parcels: expected [I@");
+    }
+
+    @Test
+    void argEqualTo_shouldIgnoreFieldsOfSubtypes() {
+        FooService mock = Mockito.mock();
+        mock.processShipment(new Shipment(Path.of("/tmp/out"), Optional.empty(), Set.of(), new int[0], now()));
+
+        verify(mock)
+                .processShipment(argEqualTo(
+                        new Shipment(Path.of("/tmp/out"), Optional.empty(), null, new int[0], null),
+                        it -> it.ignoringFieldsOfTypes(Collection.class, Temporal.class)));
+    }
 }
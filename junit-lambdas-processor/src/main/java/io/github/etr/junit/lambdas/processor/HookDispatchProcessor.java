@@ -0,0 +1,215 @@
+package io.github.etr.junit.lambdas.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Generates a {@code HookDispatch} implementation for each test class using the junit-lambdas annotations.
+ *
+ * <p>The generated class reads the annotated fields and calls their {@code invoke} methods directly, so the
+ * extension doesn't need to make them accessible via reflection. Private fields and methods, or fields of
+ * private classes, are skipped: the extension will keep accessing them reflectively.
+ */
+@SupportedAnnotationTypes({
+    HookDispatchProcessor.PACKAGE + ".DoBeforeAll",
+    HookDispatchProcessor.PACKAGE + ".DoBeforeEach",
+    HookDispatchProcessor.PACKAGE + ".DoAfterEach",
+    HookDispatchProcessor.PACKAGE + ".DoAfterAll",
+    HookDispatchProcessor.PACKAGE + ".Fixture",
+    HookDispatchProcessor.PACKAGE + ".DoClose"
+})
+public class HookDispatchProcessor extends AbstractProcessor {
+
+    static final String PACKAGE = "io.github.etr.junit.lambdas";
+    private static final String HOOK_DISPATCH = PACKAGE + ".HookDispatch";
+    private static final String POOL = PACKAGE + ".Pool";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<VariableElement>> fieldsByClass = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            for (VariableElement field : ElementFilter.fieldsIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                List<VariableElement> fields = fieldsByClass.computeIfAbsent(
+                        (TypeElement) field.getEnclosingElement(), __ -> new ArrayList<>());
+                if (!fields.contains(field)) {
+                    fields.add(field);
+                }
+            }
+        }
+        fieldsByClass.forEach((testClass, fields) -> {
+            if (isAccessible(testClass, packageOf(testClass))) {
+                generate(testClass, fields);
+            }
+        });
+        return false;
+    }
+
+    private void generate(TypeElement testClass, List<VariableElement> fields) {
+        PackageElement pkg = packageOf(testClass);
+        String testClassName = testClass.getQualifiedName().toString();
+        Map<String, String> readers = new LinkedHashMap<>();
+        Map<String, String> calls = new LinkedHashMap<>();
+
+        for (VariableElement field : fields) {
+            if (field.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            String name = field.getSimpleName().toString();
+            String owner = field.getModifiers().contains(Modifier.STATIC)
+                    ? testClassName
+                    : "((" + testClassName + ") testInstance)";
+            readers.put(name, "testInstance -> " + owner + "." + name);
+
+            for (String method : methodsToInvoke(field)) {
+                callExpression(field.asType(), method, pkg).ifPresent(call -> calls.put(name + "#" + method, call));
+            }
+        }
+
+        // binary names are unique, unlike the names of nested classes joined with another separator
+        String qualifiedName = processingEnv.getElementUtils().getBinaryName(testClass) + "_HookDispatch";
+        String dispatchName = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+        try (PrintWriter out = new PrintWriter(processingEnv
+                .getFiler()
+                .createSourceFile(qualifiedName, testClass)
+                .openWriter())) {
+            if (!pkg.isUnnamed()) {
+                out.println("package " + pkg.getQualifiedName() + ";");
+                out.println();
+            }
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("public final class " + dispatchName + " implements " + HOOK_DISPATCH + " {");
+            out.println();
+            out.println("    @Override");
+            out.println("    public FieldReader reader(String field) {");
+            out.println("        return switch (field) {");
+            readers.forEach((field, reader) -> out.println("            case \"" + field + "\" -> " + reader + ";"));
+            out.println("            default -> null;");
+            out.println("        };");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public MethodCall call(String field, String method) {");
+            out.println("        return switch (field + \"#\" + method) {");
+            calls.forEach((key, call) -> out.println("            case \"" + key + "\" -> " + call + ";"));
+            out.println("            default -> null;");
+            out.println("        };");
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> methodsToInvoke(VariableElement field) {
+        List<String> methods = new ArrayList<>();
+        for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            processingEnv
+                    .getElementUtils()
+                    .getElementValuesWithDefaults(annotation)
+                    .forEach((attribute, value) -> {
+                        if (attribute.getSimpleName().contentEquals("invoke")
+                                && value.getValue() instanceof String method
+                                && !method.isEmpty()) {
+                            methods.add(method);
+                        }
+                    });
+        }
+        return methods;
+    }
+
+    /**
+     * Returns a lambda calling the given method on the value of a field of the given type, or on the leased
+     * value of a {@code Pool}. The lambda can only be generated if the type and the method are accessible.
+     */
+    private Optional<String> callExpression(TypeMirror fieldType, String methodName, PackageElement from) {
+        TypeMirror targetType = processingEnv.getTypeUtils().erasure(fieldType);
+        if (fieldType instanceof DeclaredType declared
+                && typeElement(declared).getQualifiedName().contentEquals(POOL)
+                && declared.getTypeArguments().size() == 1) {
+            // wildcards and type variables are left to the reflective lookup
+            targetType = declared.getTypeArguments().getFirst();
+        }
+        if (!(targetType instanceof DeclaredType declaredTarget)) {
+            return Optional.empty();
+        }
+        TypeElement targetClass = typeElement(declaredTarget);
+        if (!isAccessible(targetClass, from)) {
+            return Optional.empty();
+        }
+        return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(targetClass)).stream()
+                .filter(method -> method.getSimpleName().contentEquals(methodName))
+                .filter(method -> method.getParameters().isEmpty())
+                .filter(method -> !method.getModifiers().contains(Modifier.STATIC))
+                .filter(method -> isAccessible(method, from))
+                .filter(this::throwsOnlyExceptions)
+                .findFirst()
+                .map(method -> "target -> ((" + targetClass.getQualifiedName() + ") target)." + methodName + "()");
+    }
+
+    private boolean throwsOnlyExceptions(ExecutableElement method) {
+        TypeMirror exception = typeOf(Exception.class);
+        TypeMirror error = typeOf(Error.class);
+        return method.getThrownTypes().stream()
+                .allMatch(thrown -> processingEnv.getTypeUtils().isAssignable(thrown, exception)
+                        || processingEnv.getTypeUtils().isAssignable(thrown, error));
+    }
+
+    /**
+     * Checks if the element, and all the classes enclosing it, can be accessed from the given package.
+     */
+    private boolean isAccessible(Element element, PackageElement from) {
+        for (Element current = element; !(current instanceof PackageElement); current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !packageOf(current).equals(from)) {
+                return false;
+            }
+            Element enclosing = current.getEnclosingElement();
+            if (current instanceof TypeElement
+                    && !(enclosing instanceof TypeElement || enclosing instanceof PackageElement)) {
+                return false; // local or anonymous class
+            }
+        }
+        return true;
+    }
+
+    private PackageElement packageOf(Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    private TypeMirror typeOf(Class<?> type) {
+        return processingEnv.getElementUtils().getTypeElement(type.getName()).asType();
+    }
+
+    private static TypeElement typeElement(DeclaredType type) {
+        return (TypeElement) type.asElement();
+    }
+}
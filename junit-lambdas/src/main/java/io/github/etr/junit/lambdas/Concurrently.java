@@ -0,0 +1,111 @@
+package io.github.etr.junit.lambdas;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs a group of tasks on virtual threads and waits for all of them to complete.
+ */
+final class Concurrently {
+
+    private Concurrently() {}
+
+    /**
+     * Runs the given tasks concurrently, and rethrows the first failure once all of them are done.
+     * The failures of the other tasks are attached to it as suppressed exceptions.
+     */
+    static void run(List<? extends ThrowingRunnable<? extends Exception>> tasks) throws Exception {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        if (tasks.size() == 1) {
+            tasks.getFirst().run();
+            return;
+        }
+
+        Throwable failure = null;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = tasks.stream()
+                    .<Future<?>>map(task -> executor.submit(() -> {
+                        task.run();
+                        return null;
+                    }))
+                    .toList();
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failure = aggregate(failure, e.getCause());
+                }
+            }
+        }
+        rethrow(failure);
+    }
+
+    /**
+     * Runs the given tasks concurrently, waiting at most for the given timeout. The tasks which did not
+     * complete in time are interrupted and reported as {@link TimeoutException}s, using their names.
+     * Failures are rethrown as for {@link #run(List)}.
+     */
+    static void run(Map<String, ? extends ThrowingRunnable<? extends Exception>> tasks, Duration timeout)
+            throws Exception {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        Throwable failure = null;
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            Map<String, Future<?>> futures = new LinkedHashMap<>();
+            tasks.forEach((name, task) -> futures.put(name, executor.submit(() -> {
+                task.run();
+                return null;
+            })));
+
+            long deadline = System.nanoTime() + timeout.toNanos();
+            for (Map.Entry<String, Future<?>> future : futures.entrySet()) {
+                try {
+                    future.getValue().get(Math.max(deadline - System.nanoTime(), 0), NANOSECONDS);
+                } catch (ExecutionException e) {
+                    failure = aggregate(failure, e.getCause());
+                } catch (TimeoutException e) {
+                    future.getValue().cancel(true);
+                    failure = aggregate(
+                            failure,
+                            new TimeoutException(
+                                    "'%s' did not complete within %s".formatted(future.getKey(), timeout)));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        rethrow(failure);
+    }
+
+    private static Throwable aggregate(Throwable failure, Throwable next) {
+        if (failure == null) {
+            return next;
+        }
+        failure.addSuppressed(next);
+        return failure;
+    }
+
+    static void rethrow(Throwable failure) throws Exception {
+        switch (failure) {
+            case null -> {}
+            case Exception e -> throw e;
+            case Error e -> throw e;
+            default -> throw new IllegalStateException(failure);
+        }
+    }
+}
@@ -39,4 +39,26 @@ import java.lang.annotation.Target;
 public @interface DoAfterAll {
 
     String invoke() default "";
+
+    /**
+     * Whether this hook can run concurrently with the other {@code parallel} hooks of the class.
+     *
+     * <p>Consecutive parallel hooks are started together, on virtual threads, and all of them are awaited
+     * before moving on to the next hook. If several of them fail, the first failure is rethrown
+     * and the others are added to it as suppressed exceptions.
+     */
+    boolean parallel() default false;
+
+    /**
+     * Whether the hook runs once for every test class, or once for the whole test engine execution.
+     *
+     * @see Scope
+     */
+    Scope scope() default Scope.CLASS;
+
+    /**
+     * Identifies an {@link Scope#ENGINE engine scoped} hook across test classes.
+     * If empty, the hook is identified by the field it is declared on.
+     */
+    String key() default "";
 }
@@ -38,4 +38,40 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface DoBeforeAll {
     String invoke() default "";
+
+    /**
+     * Whether this hook can run concurrently with the other {@code parallel} hooks of the class.
+     *
+     * <p>Consecutive parallel hooks are started together, on virtual threads, and all of them are awaited
+     * before moving on to the next hook. If several of them fail, the first failure is rethrown
+     * and the others are added to it as suppressed exceptions.
+     */
+    boolean parallel() default false;
+
+    /**
+     * Whether the hook runs once for every test class, or once for the whole test engine execution.
+     *
+     * @see Scope
+     */
+    Scope scope() default Scope.CLASS;
+
+    /**
+     * Identifies an {@link Scope#ENGINE engine scoped} hook across test classes.
+     * If empty, the hook is identified by the field it is declared on.
+     */
+    String key() default "";
+
+    /**
+     * Whether this hook can be started in the background, while the previous test classes are still running.
+     *
+     * <p>Prefetching is enabled via the {@code junit.lambdas.prefetch.enabled} configuration parameter.
+     * When the execution of a test class starts, the prefetched hooks of the next
+     * {@code junit.lambdas.prefetch.lookahead} classes (1 by default) are started on virtual threads.
+     * The {@code beforeAll} callback of those classes then simply awaits them, instead of running them.
+     * Otherwise, the hook runs as usual.
+     *
+     * <p>Since they may run before the other hooks of the class, prefetched hooks must be declared on
+     * static fields, and must not depend on the other hooks.
+     */
+    boolean prefetch() default false;
 }
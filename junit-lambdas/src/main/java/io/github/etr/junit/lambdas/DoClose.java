@@ -0,0 +1,33 @@
+package io.github.etr.junit.lambdas;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark {@link AutoCloseable} fields, such as clients, containers or
+ * {@link java.util.concurrent.ExecutorService}s, that need to be closed after the tests.
+ *
+ * <p>All the fields of a test class which are due at the same time are closed concurrently, on virtual
+ * threads, and the extension waits for them at most {@code timeoutMillis}. Executor services are shut down
+ * and awaited, and then forcefully shut down if they did not terminate in time. If several resources fail
+ * to close, the first failure is rethrown and the others are added to it as suppressed exceptions.
+ *
+ * <pre>{@code
+ * @DoClose
+ * static HttpClient client = HttpClient.newHttpClient();
+ *
+ * @DoClose(timeoutMillis = 5_000)
+ * static ExecutorService executor = Executors.newFixedThreadPool(4);
+ * }</pre>
+ *
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DoClose {
+
+    Lifecycle lifecycle() default Lifecycle.ALL;
+
+    long timeoutMillis() default 30_000;
+}
@@ -0,0 +1,35 @@
+package io.github.etr.junit.lambdas;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark a {@link Lazy} or {@link Pool} field as a fixture managed by the
+ * {@link JunitLambdasExtension}. The value is only created if a test reads it, and it is released according
+ * to the {@code lifecycle}: the cached value is discarded and, if it is {@link AutoCloseable}, it gets closed.
+ * Pooled fixtures must use {@link Lifecycle#ALL}: the values leased by the tests are returned to the pool
+ * after each test, and the pooled values are closed after all tests.
+ *
+ * <pre>{@code
+ * @Fixture(lifecycle = Lifecycle.ALL)
+ * static Lazy<Connection> connection = Lazy.of(() -> DriverManager.getConnection(URL));
+ *
+ * @Fixture
+ * Lazy<Path> tempDir = Lazy.of(() -> Files.createTempDirectory("test"));
+ *
+ * @Test
+ * void test() {
+ *     // only the connection is created for this test
+ *     connection.get().createStatement().execute("...");
+ * }
+ * }</pre>
+ *
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Fixture {
+
+    Lifecycle lifecycle() default Lifecycle.EACH;
+}
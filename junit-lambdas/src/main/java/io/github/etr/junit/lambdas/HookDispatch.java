@@ -0,0 +1,47 @@
+package io.github.etr.junit.lambdas;
+
+/**
+ * Direct accessors for the annotated fields of a test class, generated at compile time by the
+ * {@code junit-lambdas-processor} annotation processor.
+ *
+ * <p>For a test class {@code com.example.FooTest}, the extension looks for a {@code com.example.FooTest_HookDispatch}
+ * class implementing this interface, and for {@code com.example.FooTest$Nested_HookDispatch} for its nested classes. When it is present, the fields are read and the {@code invoke} methods are
+ * called directly, instead of via reflection. Fields and methods which are not covered by the generated class,
+ * for instance because they are private, are still accessed reflectively.
+ */
+public interface HookDispatch {
+
+    /**
+     * The suffix added to the binary name of a test class, to get the name of its generated dispatch class.
+     */
+    String SUFFIX = "_HookDispatch";
+
+    /**
+     * Returns a reader for the field with the given name, or {@code null} if it was not generated.
+     */
+    FieldReader reader(String field);
+
+    /**
+     * Returns a call of the given no-args method on the value of the given field, or {@code null} if it was not
+     * generated.
+     */
+    MethodCall call(String field, String method);
+
+    @FunctionalInterface
+    interface FieldReader {
+
+        /**
+         * Reads the field from the given test instance, which is ignored for static fields.
+         */
+        Object read(Object testInstance);
+    }
+
+    @FunctionalInterface
+    interface MethodCall {
+
+        /**
+         * Calls the method on the given target, which is the value of the field.
+         */
+        void call(Object target) throws Exception;
+    }
+}
@@ -0,0 +1,443 @@
+package io.github.etr.junit.lambdas;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The hooks declared by a test class, resolved once per class and cached.
+ *
+ * <p>Scanning the fields, reading the annotations and making the fields accessible happens only the
+ * first time a test class is seen. Afterwards, running the hooks of a test is just a matter of reading
+ * the field values through pre-built {@link MethodHandle}s, or through the accessors of the generated
+ * {@link HookDispatch}, if any.
+ */
+final class HookPlan {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private static final ClassValue<HookDispatch> DISPATCHES = new ClassValue<>() {
+        @Override
+        protected HookDispatch computeValue(Class<?> testClass) {
+            return loadDispatch(testClass);
+        }
+    };
+
+    private static final ClassValue<HookPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected HookPlan computeValue(Class<?> testClass) {
+            return new HookPlan(testClass);
+        }
+    };
+
+    private final Map<Class<? extends Annotation>, List<Hook>> hooks;
+
+    private final List<FixtureField> fixtures;
+
+    private final List<CloseableField> closeables;
+
+    private HookPlan(Class<?> testClass) {
+        this.hooks = Map.of(
+                DoBeforeAll.class,
+                resolve(
+                        testClass,
+                        DoBeforeAll.class,
+                        (field, it) ->
+                                new Hook(field, it.invoke(), it.parallel(), it.scope(), it.key(), it.prefetch())),
+                DoBeforeEach.class,
+                resolve(
+                        testClass,
+                        DoBeforeEach.class,
+                        (field, it) -> new Hook(field, it.invoke(), false, Scope.CLASS, "", false)),
+                DoAfterEach.class,
+                resolve(
+                        testClass,
+                        DoAfterEach.class,
+                        (field, it) -> new Hook(field, it.invoke(), false, Scope.CLASS, "", false)),
+                DoAfterAll.class,
+                resolve(
+                        testClass,
+                        DoAfterAll.class,
+                        (field, it) -> new Hook(field, it.invoke(), it.parallel(), it.scope(), it.key(), false)));
+        this.fixtures = fields(testClass)
+                .filter(field -> field.isAnnotationPresent(Fixture.class))
+                .map(field -> new FixtureField(field, field.getAnnotation(Fixture.class)))
+                .toList();
+        this.closeables = fields(testClass)
+                .filter(field -> field.isAnnotationPresent(DoClose.class))
+                .map(field -> new CloseableField(field, field.getAnnotation(DoClose.class)))
+                .toList();
+    }
+
+    static HookPlan of(Class<?> testClass) {
+        return PLANS.get(testClass);
+    }
+
+    List<Hook> hooks(Class<? extends Annotation> annotationClass) {
+        List<Hook> resolved = hooks.get(annotationClass);
+        if (resolved == null) {
+            throw new IllegalArgumentException("Unknown annotation: " + annotationClass);
+        }
+        return resolved;
+    }
+
+    List<FixtureField> fixtures() {
+        return fixtures;
+    }
+
+    List<CloseableField> closeables() {
+        return closeables;
+    }
+
+    private static <A extends Annotation> List<Hook> resolve(
+            Class<?> testClass, Class<A> annotationClass, BiFunction<Field, A, Hook> hookFactory) {
+        return fields(testClass)
+                .filter(field -> field.isAnnotationPresent(annotationClass))
+                .map(field -> hookFactory.apply(field, field.getAnnotation(annotationClass)))
+                .toList();
+    }
+
+    private static Stream<Field> fields(Class<?> testClass) {
+        return Stream.of(testClass.getDeclaredFields());
+    }
+
+    /**
+     * Returns the generated {@link HookDispatch} of the given class, or {@code null} if there is none.
+     */
+    static HookDispatch dispatch(Class<?> testClass) {
+        return DISPATCHES.get(testClass);
+    }
+
+    private static HookDispatch loadDispatch(Class<?> testClass) {
+        String dispatchName = testClass.getName() + HookDispatch.SUFFIX;
+        try {
+            return (HookDispatch) Class.forName(dispatchName, true, testClass.getClassLoader())
+                    .getConstructor()
+                    .newInstance();
+        } catch (ClassNotFoundException e) {
+            return null;
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("Cannot instantiate " + dispatchName, e);
+        }
+    }
+
+    private static HookDispatch.FieldReader reader(Field field) {
+        HookDispatch dispatch = dispatch(field.getDeclaringClass());
+        if (dispatch != null && dispatch.reader(field.getName()) != null) {
+            return dispatch.reader(field.getName());
+        }
+
+        MethodHandle getter = getter(field);
+        return testInstance -> {
+            try {
+                return (Object) getter.invokeExact(testInstance);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        };
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
+            }
+            return getter.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access field: " + field, e);
+        }
+    }
+
+    static final class FixtureField {
+        private final HookDispatch.FieldReader reader;
+        private final Lifecycle lifecycle;
+        private final boolean isStatic;
+
+        private FixtureField(Field field, Fixture fixture) {
+            if (Pool.class.isAssignableFrom(field.getType()) && fixture.lifecycle() != Lifecycle.ALL) {
+                throw new IllegalStateException(
+                        "Pooled fixtures are shared by the tests of a class, and must use Lifecycle.ALL: " + field);
+            }
+            if (!Lazy.class.isAssignableFrom(field.getType()) && !Pool.class.isAssignableFrom(field.getType())) {
+                throw new IllegalStateException("Fixture fields must be of type Lazy or Pool: " + field);
+            }
+            this.reader = reader(field);
+            this.lifecycle = fixture.lifecycle();
+            this.isStatic = Modifier.isStatic(field.getModifiers());
+        }
+
+        /**
+         * Returns the values leased from pools, closing the pools which only live for one test, and releases the
+         * lazy values which only live for one test.
+         */
+        void afterEach(Optional<Object> testInstance, boolean instancePerTest) throws Exception {
+            Object value = value(testInstance);
+            if (value instanceof Pool<?> pool) {
+                pool.returnLease();
+                if (instancePerTest && !isStatic) {
+                    pool.close();
+                }
+            } else if (value instanceof Lazy<?> lazy
+                    && (lifecycle == Lifecycle.EACH || (instancePerTest && !isStatic))) {
+                lazy.release();
+            }
+        }
+
+        /**
+         * Closes the pooled values and releases the lazy values which live for all the tests of the class.
+         */
+        void afterAll(Optional<Object> testInstance) throws Exception {
+            Object value = value(testInstance);
+            if (value instanceof Pool<?> pool) {
+                pool.close();
+            } else if (value instanceof Lazy<?> lazy && lifecycle == Lifecycle.ALL) {
+                lazy.release();
+            }
+        }
+
+        private Object value(Optional<Object> testInstance) {
+            if (!isStatic && testInstance.isEmpty()) {
+                return null;
+            }
+            return reader.read(testInstance.orElse(null));
+        }
+    }
+
+    static final class CloseableField {
+        private final String name;
+        private final HookDispatch.FieldReader reader;
+        private final Lifecycle lifecycle;
+        private final Duration timeout;
+        private final boolean isStatic;
+
+        private CloseableField(Field field, DoClose doClose) {
+            if (!AutoCloseable.class.isAssignableFrom(field.getType())) {
+                throw new IllegalStateException("Fields annotated with @DoClose must be AutoCloseable: " + field);
+            }
+            this.name = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+            this.reader = reader(field);
+            this.lifecycle = doClose.lifecycle();
+            this.timeout = Duration.ofMillis(doClose.timeoutMillis());
+            this.isStatic = Modifier.isStatic(field.getModifiers());
+        }
+
+        String name() {
+            return name;
+        }
+
+        Duration timeout() {
+            return timeout;
+        }
+
+        boolean closedAfterEach(boolean instancePerTest) {
+            return lifecycle == Lifecycle.EACH || (instancePerTest && !isStatic);
+        }
+
+        boolean closedAfterAll() {
+            return lifecycle == Lifecycle.ALL;
+        }
+
+        void close(Optional<Object> testInstance) throws Exception {
+            if (!isStatic && testInstance.isEmpty()) {
+                return;
+            }
+            switch (reader.read(testInstance.orElse(null))) {
+                case null -> {}
+                case ExecutorService executor -> shutdown(executor);
+                case AutoCloseable closeable -> closeable.close();
+                case Object other -> throw new IllegalStateException("Unsupported value: " + other);
+            }
+        }
+
+        private void shutdown(ExecutorService executor) throws InterruptedException, TimeoutException {
+            executor.shutdown();
+            if (!executor.awaitTermination(timeout.toNanos(), NANOSECONDS)) {
+                executor.shutdownNow();
+                throw new TimeoutException("'%s' did not terminate within %s".formatted(name, timeout));
+            }
+        }
+    }
+
+    static final class Hook {
+        private final String name;
+        private final HookDispatch.FieldReader reader;
+        private final HookDispatch.MethodCall methodToInvoke;
+        private final boolean parallel;
+        private final Scope scope;
+        private final String key;
+        private final boolean prefetch;
+
+        private Hook(Field field, String methodName, boolean parallel, Scope scope, String key, boolean prefetch) {
+            if (scope == Scope.ENGINE && !Modifier.isStatic(field.getModifiers())) {
+                throw new IllegalStateException("Engine scoped hooks must be declared on static fields: " + field);
+            }
+            if (prefetch && !Modifier.isStatic(field.getModifiers())) {
+                throw new IllegalStateException("Prefetched hooks must be declared on static fields: " + field);
+            }
+            if (prefetch && scope != Scope.CLASS) {
+                throw new IllegalStateException("Engine scoped hooks cannot be prefetched: " + field);
+            }
+            this.name = field.getName();
+            this.reader = reader(field);
+            this.parallel = parallel;
+            this.scope = scope;
+            this.prefetch = prefetch;
+            this.key = key.isEmpty() ? field.getDeclaringClass().getName() + "#" + field.getName() : key;
+            this.methodToInvoke = Optional.ofNullable(methodName)
+                    .filter(name -> !name.isEmpty())
+                    .map(name -> methodCall(field, name))
+                    .orElse(null);
+        }
+
+        String name() {
+            return name;
+        }
+
+        boolean parallel() {
+            return parallel;
+        }
+
+        Scope scope() {
+            return scope;
+        }
+
+        String key() {
+            return key;
+        }
+
+        boolean prefetch() {
+            return prefetch;
+        }
+
+        void invoke(Optional<Object> testInstance) throws Exception {
+            Object target = reader.read(testInstance.orElse(null));
+            if (target instanceof Pool<?> pool) {
+                target = pool.leased();
+                if (target == null) {
+                    return;
+                }
+            }
+            if (methodToInvoke == null) {
+                invokeFunction(target);
+            } else {
+                methodToInvoke.call(target);
+            }
+        }
+
+        private static void invokeFunction(Object target) throws Exception {
+            switch (target) {
+                case ThrowingRunnable<?> it -> it.run();
+                case Runnable it -> it.run();
+                case Supplier<?> it -> it.get();
+                case ThrowingSupplier<?, ?> it -> it.get();
+                case Callable<?> it -> it.call();
+                default -> throw new IllegalStateException("Unsupported value: " + target);
+            }
+        }
+
+        private static HookDispatch.MethodCall methodCall(Field field, String methodName) {
+            HookDispatch dispatch = dispatch(field.getDeclaringClass());
+            if (dispatch != null && dispatch.call(field.getName(), methodName) != null) {
+                return dispatch.call(field.getName(), methodName);
+            }
+
+            ClassValue<MethodHandle> methods = new ClassValue<>() {
+                @Override
+                protected MethodHandle computeValue(Class<?> type) {
+                    return findMethod(type, methodName).asType(INVOKER_TYPE);
+                }
+            };
+            return target -> {
+                try {
+                    methods.get(target.getClass()).invokeExact(target);
+                } catch (Exception | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e);
+                }
+            };
+        }
+
+        /**
+         * Looks for a no-args method with the given name, declared by the type or one of its superclasses.
+         * Static methods ignore the target, as with {@link Method#invoke}. If the declaring class cannot be made accessible (e.g. a private JDK implementation class),
+         * the method is looked up on the public supertypes instead.
+         */
+        private static MethodHandle findMethod(Class<?> type, String methodName) {
+            try {
+                for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                    Optional<Method> declared = Stream.of(current.getDeclaredMethods())
+                            .filter(method -> method.getName().equals(methodName))
+                            .filter(method -> method.getParameterCount() == 0)
+                            .filter(method -> !method.isBridge())
+                            .findFirst();
+                    if (declared.isPresent() && declared.get().trySetAccessible()) {
+                        return unreflect(MethodHandles.lookup(), declared.get());
+                    }
+                }
+                Optional<Class<?>> publicSupertype = supertypes(type)
+                        .filter(it -> Modifier.isPublic(it.getModifiers()))
+                        .filter(it -> declaresPublicMethod(it, methodName))
+                        .findFirst();
+                if (publicSupertype.isPresent()) {
+                    return unreflect(
+                            MethodHandles.publicLookup(), publicSupertype.get().getMethod(methodName));
+                }
+            } catch (IllegalAccessException | NoSuchMethodException e) {
+                throw new IllegalStateException("Cannot access method '%s' of %s".formatted(methodName, type), e);
+            }
+            throw new IllegalStateException("No method '%s' found on %s".formatted(methodName, type));
+        }
+
+        private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method)
+                throws IllegalAccessException {
+            MethodHandle handle = lookup.unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle;
+        }
+
+        private static Stream<Class<?>> supertypes(Class<?> type) {
+            if (type == null) {
+                return Stream.empty();
+            }
+            return Stream.concat(
+                    Stream.of(type),
+                    Stream.concat(Stream.of(type.getInterfaces()), Stream.of(type.getSuperclass()))
+                            .flatMap(Hook::supertypes));
+        }
+
+        private static boolean declaresPublicMethod(Class<?> type, String methodName) {
+            try {
+                type.getMethod(methodName);
+                return true;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    }
+}
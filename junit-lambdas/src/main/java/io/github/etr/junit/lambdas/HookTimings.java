@@ -0,0 +1,120 @@
+package io.github.etr.junit.lambdas;
+
+import static java.util.Comparator.comparingLong;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+
+/**
+ * Measures the duration of the hooks, when enabled via the {@value #ENABLED} configuration parameter.
+ *
+ * <p>Each invocation is published as a {@code ReportEntry}, and an aggregated JSON report is written at the
+ * end of the test run, to the path given by the {@value #REPORT} configuration parameter.
+ */
+final class HookTimings implements CloseableResource {
+
+    static final String ENABLED = "junit.lambdas.timing.enabled";
+
+    static final String REPORT = "junit.lambdas.timing.report";
+
+    private static final String DEFAULT_REPORT = "target/junit-lambdas-timings.json";
+
+    private static final Namespace NAMESPACE = Namespace.create(HookTimings.class);
+
+    private final Path report;
+    private final Map<Key, List<Long>> samples = new ConcurrentHashMap<>();
+
+    private HookTimings(Path report) {
+        this.report = report;
+    }
+
+    /**
+     * Returns the timings of the current test run, or {@code null} if they are not enabled.
+     */
+    static HookTimings of(ExtensionContext context) {
+        if (!context.getConfigurationParameter(ENABLED, Boolean::parseBoolean).orElse(false)) {
+            return null;
+        }
+        return context.getRoot()
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(
+                        HookTimings.class,
+                        __ -> new HookTimings(Path.of(
+                                context.getConfigurationParameter(REPORT).orElse(DEFAULT_REPORT))),
+                        HookTimings.class);
+    }
+
+    ThrowingRunnable<Exception> timed(
+            ExtensionContext context,
+            Class<? extends Annotation> annotationClass,
+            HookPlan.Hook hook,
+            ThrowingRunnable<Exception> task) {
+        Key key = new Key(context.getRequiredTestClass().getName(), annotationClass.getSimpleName(), hook.name());
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } finally {
+                long duration = System.nanoTime() - start;
+                samples.computeIfAbsent(key, __ -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(duration);
+                context.publishReportEntry("junit-lambdas.%s.%s".formatted(key.hook(), key.field()), duration + "ns");
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        String entries = samples.entrySet().stream()
+                .map(it -> Summary.of(it.getKey(), it.getValue()))
+                .sorted(comparingLong(Summary::totalNanos).reversed())
+                .map(Summary::toJson)
+                .collect(Collectors.joining(",\n  ", "[\n  ", "\n]\n"));
+
+        Path parent = report.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(report, entries);
+    }
+
+    private record Key(String testClass, String hook, String field) {}
+
+    private record Summary(Key key, int count, long totalNanos, long p50Nanos, long p99Nanos) {
+
+        static Summary of(Key key, List<Long> samples) {
+            long[] sorted;
+            synchronized (samples) {
+                sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            }
+            long total = 0;
+            for (long sample : sorted) {
+                total += sample;
+            }
+            return new Summary(key, sorted.length, total, percentile(sorted, 50), percentile(sorted, 99));
+        }
+
+        private static long percentile(long[] sorted, int percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank - 1, 0)];
+        }
+
+        String toJson() {
+            return """
+                    {"testClass": "%s", "hook": "%s", "field": "%s", "count": %d, \
+                    "totalNanos": %d, "p50Nanos": %d, "p99Nanos": %d}"""
+                    .formatted(key.testClass(), key.hook(), key.field(), count, totalNanos, p50Nanos, p99Nanos);
+        }
+    }
+}
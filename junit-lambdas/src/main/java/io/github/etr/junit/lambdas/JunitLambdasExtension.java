@@ -1,14 +1,16 @@
 package io.github.etr.junit.lambdas;
 
-import static java.util.function.Predicate.not;
+import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_METHOD;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.Callable;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
@@ -19,75 +21,110 @@ public class JunitLambdasExtension
         implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback, AfterAllCallback {
 
     @Override
-    public void beforeAll(ExtensionContext context) {
+    public void beforeAll(ExtensionContext context) throws Exception {
         invokeFunctionsAnnotatedWith(DoBeforeAll.class, context);
     }
 
     @Override
-    public void beforeEach(ExtensionContext context) {
+    public void beforeEach(ExtensionContext context) throws Exception {
         invokeFunctionsAnnotatedWith(DoBeforeEach.class, context);
     }
 
     @Override
     public void afterAll(ExtensionContext context) throws Exception {
-        invokeFunctionsAnnotatedWith(DoAfterAll.class, context);
+        runAll(List.of(
+                () -> invokeFunctionsAnnotatedWith(DoAfterAll.class, context),
+                () -> closeResources(context, HookPlan.CloseableField::closedAfterAll),
+                () -> releaseFixtures(context, fixture -> () -> fixture.afterAll(context.getTestInstance()))));
     }
 
     @Override
     public void afterEach(ExtensionContext context) throws Exception {
-        invokeFunctionsAnnotatedWith(DoAfterEach.class, context);
+        boolean instancePerTest = context.getTestInstanceLifecycle().orElse(PER_METHOD) == PER_METHOD;
+        runAll(List.of(
+                () -> invokeFunctionsAnnotatedWith(DoAfterEach.class, context),
+                () -> closeResources(context, closeable -> closeable.closedAfterEach(instancePerTest)),
+                () -> releaseFixtures(
+                        context, fixture -> () -> fixture.afterEach(context.getTestInstance(), instancePerTest))));
     }
 
     private static void invokeFunctionsAnnotatedWith(
-            Class<? extends Annotation> annotationClass, ExtensionContext context) {
-        Stream.of(context.getRequiredTestClass().getDeclaredFields())
-                .filter(field -> field.isAnnotationPresent(annotationClass))
-                .forEach(field -> methodToInvoke(field, annotationClass)
-                        .filter(not(String::isEmpty))
-                        .ifPresentOrElse(
-                                method -> invokeMethodOnFieldInstance(field, context.getTestInstance(), method),
-                                () -> invokeFunction(field, context.getTestInstance())));
-    }
+            Class<? extends Annotation> annotationClass, ExtensionContext context) throws Exception {
+        HookTimings timings = HookTimings.of(context);
+        List<ThrowingRunnable<Exception>> parallelHooks = new ArrayList<>();
 
-    private static Optional<String> methodToInvoke(Field field, Class<? extends Annotation> annotation) {
-        String methodName =
-                switch (annotation.getSimpleName()) {
-                    case "DoBeforeAll" -> field.getAnnotation(DoBeforeAll.class).invoke();
-                    case "DoBeforeEach" -> field.getAnnotation(DoBeforeEach.class)
-                            .invoke();
-                    case "DoAfterAll" -> field.getAnnotation(DoAfterAll.class).invoke();
-                    case "DoAfterEach" -> field.getAnnotation(DoAfterEach.class).invoke();
-                    default -> throw new IllegalArgumentException("Unknown annotation: " + annotation);
-                };
-        return Optional.ofNullable(methodName).filter(not(String::isEmpty));
+        for (HookPlan.Hook hook : HookPlan.of(context.getRequiredTestClass()).hooks(annotationClass)) {
+            ThrowingRunnable<Exception> task = task(annotationClass, hook, context);
+            if (timings != null) {
+                task = timings.timed(context, annotationClass, hook, task);
+            }
+            if (hook.parallel()) {
+                parallelHooks.add(task);
+                continue;
+            }
+            Concurrently.run(parallelHooks);
+            parallelHooks.clear();
+            task.run();
+        }
+        Concurrently.run(parallelHooks);
     }
 
-    private static void invokeMethodOnFieldInstance(Field field, Optional<Object> testInstance, String methodName) {
-        try {
-            field.setAccessible(true);
-            Object target = field.get(testInstance.orElse(null));
-            Method methodToInvoke = target.getClass().getDeclaredMethod(methodName);
-            methodToInvoke.setAccessible(true);
-            methodToInvoke.invoke(target);
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
+    private static void closeResources(ExtensionContext context, Predicate<HookPlan.CloseableField> filter)
+            throws Exception {
+        Map<String, ThrowingRunnable<Exception>> closing = new LinkedHashMap<>();
+        Duration timeout = Duration.ZERO;
+        for (HookPlan.CloseableField closeable :
+                HookPlan.of(context.getRequiredTestClass()).closeables()) {
+            if (filter.test(closeable)) {
+                closing.put(closeable.name(), () -> closeable.close(context.getTestInstance()));
+                timeout = timeout.compareTo(closeable.timeout()) < 0 ? closeable.timeout() : timeout;
+            }
         }
+        Concurrently.run(closing, timeout);
+    }
+
+    private static void releaseFixtures(
+            ExtensionContext context, Function<HookPlan.FixtureField, ThrowingRunnable<Exception>> release)
+            throws Exception {
+        runAll(HookPlan.of(context.getRequiredTestClass()).fixtures().stream()
+                .map(release)
+                .toList());
     }
 
-    private static void invokeFunction(Field field, Optional<Object> testInstance) {
-        try {
-            field.setAccessible(true);
-            Object target = field.get(testInstance.orElse(null));
-            switch (target) {
-                case ThrowingRunnable<?> it -> it.run();
-                case Runnable it -> it.run();
-                case Supplier<?> it -> it.get();
-                case ThrowingSupplier<?, ?> it -> it.get();
-                case Callable<?> it -> it.call();
-                default -> throw new IllegalStateException("Unsupported value: " + target);
+    /**
+     * Runs all the given steps, even if some of them fail. The first failure is rethrown at the end,
+     * and the following ones are added to it as suppressed exceptions.
+     */
+    private static void runAll(List<ThrowingRunnable<Exception>> steps) throws Exception {
+        Exception failure = null;
+        for (ThrowingRunnable<Exception> step : steps) {
+            try {
+                step.run();
+            } catch (Exception e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
             }
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
         }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static ThrowingRunnable<Exception> task(
+            Class<? extends Annotation> annotationClass, HookPlan.Hook hook, ExtensionContext context) {
+        Optional<Object> testInstance = context.getTestInstance();
+        ThrowingRunnable<Exception> invocation = () -> hook.invoke(testInstance);
+        if (hook.prefetch()) {
+            return () -> PrefetchingListener.await(hook, invocation);
+        }
+        if (hook.scope() == Scope.CLASS) {
+            return invocation;
+        }
+        return annotationClass == DoBeforeAll.class
+                ? () -> SharedFixtures.setUp(context, hook.key(), invocation)
+                : () -> SharedFixtures.tearDown(context, hook.key(), invocation);
     }
 }
@@ -0,0 +1,71 @@
+package io.github.etr.junit.lambdas;
+
+import java.util.function.Supplier;
+
+/**
+ * A value computed the first time it is requested, and cached until it is released.
+ * When used on a {@link Fixture} field, the {@link JunitLambdasExtension} releases it after each test
+ * or after all tests, depending on the {@link Fixture#lifecycle()}.
+ *
+ * @param <T> the type of the value
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    private final ThrowingSupplier<?, ? extends T> factory;
+    private volatile T value;
+    private volatile boolean initialized;
+
+    private Lazy(ThrowingSupplier<?, ? extends T> factory) {
+        this.factory = factory;
+    }
+
+    public static <T> Lazy<T> of(ThrowingSupplier<?, ? extends T> factory) {
+        return new Lazy<>(factory);
+    }
+
+    /**
+     * Returns the cached value, computing it first if needed.
+     */
+    @Override
+    public T get() {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    value = create();
+                    initialized = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    /**
+     * Discards the cached value, closing it if it is {@link AutoCloseable}.
+     * The next call to {@link #get()} will compute a new value.
+     */
+    synchronized void release() throws Exception {
+        if (!initialized) {
+            return;
+        }
+        T released = value;
+        value = null;
+        initialized = false;
+        if (released instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private T create() {
+        try {
+            return factory.get();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to create the fixture", e);
+        }
+    }
+}
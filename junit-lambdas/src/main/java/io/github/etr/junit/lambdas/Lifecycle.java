@@ -0,0 +1,20 @@
+package io.github.etr.junit.lambdas;
+
+/**
+ * Defines how long a value managed by the {@link JunitLambdasExtension} is kept before being released.
+ */
+public enum Lifecycle {
+
+    /**
+     * The value is released after each test.
+     */
+    EACH,
+
+    /**
+     * The value is released after all the tests of the class.
+     *
+     * <p>For instance fields of test classes using the default {@code PER_METHOD} test instance lifecycle,
+     * each test has its own value anyway, so it is released after each test.
+     */
+    ALL
+}
@@ -0,0 +1,178 @@
+package io.github.etr.junit.lambdas;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of reusable values, leasing one value to each test.
+ *
+ * <p>When used on a {@link Fixture} field, the value leased by a test is returned to the pool after the
+ * test, and the pooled values are closed after all tests, or after each test for the non-static fields of test
+ * instances created per test. Hooks using {@code invoke} on a pool field are applied to the value leased by the
+ * current test, which allows resetting it instead of rebuilding it:
+ *
+ * <pre>{@code
+ * @Fixture(lifecycle = Lifecycle.ALL)
+ * @DoAfterEach(invoke = "reset")
+ * static Pool<Parser> parser = Pool.of(4, Parser::new);
+ *
+ * @Test
+ * void test() {
+ *     parser.get().parse("...");
+ * }
+ * }</pre>
+ *
+ * <p>Values are leased to the calling thread, so tests running in parallel get different values. If all of
+ * them are leased, {@link #get()} blocks until one is returned, and fails after a timeout of 30 seconds by default.
+ * The leases are returned by the thread running the test's {@code afterEach} callbacks, or once the leasing
+ * thread terminated, for test bodies running in separate threads.
+ *
+ * @param <T> the type of the pooled values
+ */
+public final class Pool<T> implements Supplier<T> {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ThrowingSupplier<?, ? extends T> factory;
+    private final Semaphore permits;
+    private final Duration timeout;
+    private final Deque<T> idle = new ConcurrentLinkedDeque<>();
+    private final Map<Thread, T> leases = new ConcurrentHashMap<>();
+    private final Queue<T> created = new ConcurrentLinkedQueue<>();
+
+    private Pool(int size, Duration timeout, ThrowingSupplier<?, ? extends T> factory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("The pool size must be positive, but was: " + size);
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("The pool timeout must be positive, but was: " + timeout);
+        }
+        this.factory = factory;
+        this.permits = new Semaphore(size);
+        this.timeout = timeout;
+    }
+
+    public static <T> Pool<T> of(int size, ThrowingSupplier<?, ? extends T> factory) {
+        return new Pool<>(size, DEFAULT_TIMEOUT, factory);
+    }
+
+    /**
+     * Creates a pool whose {@link #get()} fails if no value is returned within the given timeout.
+     */
+    public static <T> Pool<T> of(int size, Duration timeout, ThrowingSupplier<?, ? extends T> factory) {
+        return new Pool<>(size, timeout, factory);
+    }
+
+    /**
+     * Returns the value leased by the current thread, leasing one from the pool if needed.
+     */
+    @Override
+    public T get() {
+        T leased = leases.get(Thread.currentThread());
+        if (leased == null) {
+            leased = acquire();
+            leases.put(Thread.currentThread(), leased);
+        }
+        return leased;
+    }
+
+    /**
+     * Returns the value leased by the current thread, or {@code null} if it did not lease any.
+     */
+    T leased() {
+        return leases.get(Thread.currentThread());
+    }
+
+    /**
+     * Returns the value leased by the current thread to the pool.
+     */
+    void returnLease() {
+        returnLease(Thread.currentThread());
+        reclaimAbandonedLeases();
+    }
+
+    private void returnLease(Thread thread) {
+        T leased = leases.remove(thread);
+        if (leased != null) {
+            idle.push(leased);
+            permits.release();
+        }
+    }
+
+    /**
+     * Returns the values leased by terminated threads, which will never return them.
+     */
+    private void reclaimAbandonedLeases() {
+        for (Thread thread : leases.keySet()) {
+            if (!thread.isAlive()) {
+                returnLease(thread);
+            }
+        }
+    }
+
+    /**
+     * Discards all the values created by the pool, including the ones still leased, closing the ones that are
+     * {@link AutoCloseable}.
+     */
+    void close() throws Exception {
+        leases.keySet().forEach(this::returnLease);
+        idle.clear();
+        Exception failure = null;
+        for (T value = created.poll(); value != null; value = created.poll()) {
+            if (value instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private T acquire() {
+        try {
+            if (!permits.tryAcquire()) {
+                reclaimAbandonedLeases();
+                if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw new IllegalStateException(("No pooled fixture was returned within %s. The values are"
+                                    + " returned after each test by the thread which leased them, so they leak when"
+                                    + " leased by threads which outlive the test.")
+                            .formatted(timeout));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled fixture", e);
+        }
+        T value = idle.poll();
+        if (value != null) {
+            return value;
+        }
+        try {
+            T fresh = factory.get();
+            created.add(fresh);
+            return fresh;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        } catch (Exception e) {
+            permits.release();
+            throw new IllegalStateException("Failed to create the fixture", e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.etr.junit.lambdas;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Starts the {@link DoBeforeAll#prefetch() prefetched} hooks of the upcoming test classes in the background,
+ * when enabled via the {@value #ENABLED} configuration parameter.
+ *
+ * <p>This listener is registered automatically by the JUnit Platform launcher, and it is a no-op unless enabled.
+ * Whenever the execution of a test class starts, the hooks of the next {@value #LOOKAHEAD} classes of the test
+ * plan are started on virtual threads. The extension then awaits them, instead of running them again. The classes
+ * which already started, such as the ones running in parallel, are not prefetched, and the hooks prefetched for
+ * the skipped classes are cancelled.
+ */
+public final class PrefetchingListener implements TestExecutionListener {
+
+    static final String ENABLED = "junit.lambdas.prefetch.enabled";
+
+    static final String LOOKAHEAD = "junit.lambdas.prefetch.lookahead";
+
+    private static final Map<HookPlan.Hook, Future<Void>> PREFETCHED = new ConcurrentHashMap<>();
+
+    private final List<ClassSource> testClasses = new ArrayList<>();
+    private final Map<UniqueId, Integer> positions = new HashMap<>();
+    private final Set<Integer> started = new HashSet<>();
+    private TestPlan testPlan;
+    private int lookahead;
+    private int prefetchedUntil;
+
+    @Override
+    public synchronized void testPlanExecutionStarted(TestPlan testPlan) {
+        ConfigurationParameters configuration = testPlan.getConfigurationParameters();
+        if (!configuration.getBoolean(ENABLED).orElse(false)) {
+            return;
+        }
+        lookahead = configuration.get(LOOKAHEAD, Integer::parseInt).orElse(1);
+        prefetchedUntil = 0;
+        this.testPlan = testPlan;
+        testPlan.getRoots().forEach(root -> collectTestClasses(testPlan, root));
+    }
+
+    @Override
+    public synchronized void executionStarted(TestIdentifier testIdentifier) {
+        Integer position = positions.get(testIdentifier.getUniqueIdObject());
+        if (position == null) {
+            return;
+        }
+        started.add(position);
+        int until = Math.min(position + 1 + lookahead, testClasses.size());
+        for (int next = Math.max(prefetchedUntil, position + 1); next < until; next++) {
+            if (!started.contains(next)) {
+                prefetch(testClasses.get(next));
+            }
+        }
+        prefetchedUntil = Math.max(prefetchedUntil, until);
+    }
+
+    @Override
+    public synchronized void executionSkipped(TestIdentifier testIdentifier, String reason) {
+        if (testPlan == null) {
+            return;
+        }
+        Set<TestIdentifier> skipped = new HashSet<>(testPlan.getDescendants(testIdentifier));
+        skipped.add(testIdentifier);
+        for (TestIdentifier identifier : skipped) {
+            Integer position = positions.get(identifier.getUniqueIdObject());
+            if (position != null) {
+                started.add(position);
+                cancel(testClasses.get(position));
+            }
+        }
+    }
+
+    @Override
+    public synchronized void testPlanExecutionFinished(TestPlan testPlan) {
+        testClasses.clear();
+        positions.clear();
+        started.clear();
+        this.testPlan = null;
+        PREFETCHED.values().forEach(future -> future.cancel(true));
+        PREFETCHED.clear();
+    }
+
+    /**
+     * Awaits the hook, if it was prefetched, and rethrows its failure. Otherwise, runs it in the current thread.
+     */
+    static void await(HookPlan.Hook hook, ThrowingRunnable<Exception> invocation) throws Exception {
+        Future<Void> prefetched = PREFETCHED.remove(hook);
+        if (prefetched == null) {
+            invocation.run();
+            return;
+        }
+        try {
+            prefetched.get();
+        } catch (ExecutionException e) {
+            Concurrently.rethrow(e.getCause());
+        }
+    }
+
+    private void collectTestClasses(TestPlan testPlan, TestIdentifier identifier) {
+        if (identifier.getSource().orElse(null) instanceof ClassSource source) {
+            positions.put(identifier.getUniqueIdObject(), testClasses.size());
+            testClasses.add(source);
+        }
+        testPlan.getChildren(identifier).forEach(child -> collectTestClasses(testPlan, child));
+    }
+
+    private static void prefetch(ClassSource source) {
+        for (HookPlan.Hook hook : prefetchedHooks(source)) {
+            FutureTask<Void> task = new FutureTask<>(() -> {
+                hook.invoke(Optional.empty());
+                return null;
+            });
+            if (PREFETCHED.putIfAbsent(hook, task) == null) {
+                Thread.ofVirtual().name("junit-lambdas-prefetch-" + hook.name()).start(task);
+            }
+        }
+    }
+
+    private static void cancel(ClassSource source) {
+        for (HookPlan.Hook hook : prefetchedHooks(source)) {
+            Future<Void> prefetched = PREFETCHED.remove(hook);
+            if (prefetched != null) {
+                prefetched.cancel(true);
+            }
+        }
+    }
+
+    private static List<HookPlan.Hook> prefetchedHooks(ClassSource source) {
+        try {
+            Class<?> testClass = source.getJavaClass();
+            if (!usesExtension(testClass)) {
+                return List.of();
+            }
+            return HookPlan.of(testClass).hooks(DoBeforeAll.class).stream()
+                    .filter(HookPlan.Hook::prefetch)
+                    .toList();
+        } catch (RuntimeException e) {
+            // misconfigured test classes are reported by the extension, when they run
+            return List.of();
+        }
+    }
+
+    private static boolean usesExtension(Class<?> testClass) {
+        for (Class<?> type = testClass; type != null; type = enclosingInstanceClass(type)) {
+            boolean extended = AnnotationSupport.findRepeatableAnnotations(type, ExtendWith.class).stream()
+                    .flatMap(it -> Arrays.stream(it.value()))
+                    .anyMatch(JunitLambdasExtension.class::equals);
+            if (extended) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> enclosingInstanceClass(Class<?> type) {
+        return type.isMemberClass() && !Modifier.isStatic(type.getModifiers()) ? type.getEnclosingClass() : null;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.etr.junit.lambdas;
+
+/**
+ * Defines how often a {@link DoBeforeAll} or {@link DoAfterAll} hook runs.
+ */
+public enum Scope {
+
+    /**
+     * The hook runs once for each test class declaring it.
+     */
+    CLASS,
+
+    /**
+     * The hook runs once per test engine execution, no matter how many test classes use it.
+     *
+     * <p>{@link DoBeforeAll} hooks run before the first test class using them, and {@link DoAfterAll}
+     * hooks run after the last one, when the engine execution completes. Hooks are identified by their
+     * {@code key} or, if it is missing, by the field they are declared on. Engine scoped hooks can only
+     * be declared on static fields.
+     */
+    ENGINE
+}
@@ -0,0 +1,67 @@
+package io.github.etr.junit.lambdas;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+
+/**
+ * Keeps track of the {@link Scope#ENGINE engine scoped} hooks, using the store of the root context.
+ */
+final class SharedFixtures {
+
+    private static final Namespace SET_UP = Namespace.create(SharedFixtures.class, "setUp");
+
+    private static final Namespace TEAR_DOWN = Namespace.create(SharedFixtures.class, "tearDown");
+
+    private SharedFixtures() {}
+
+    /**
+     * Runs the set-up the first time it is requested for the given key. Subsequent calls wait for it to
+     * complete, and rethrow its failure, if any.
+     */
+    static void setUp(ExtensionContext context, String key, ThrowingRunnable<Exception> setUp) throws Exception {
+        context.getRoot()
+                .getStore(SET_UP)
+                .getOrComputeIfAbsent(key, __ -> new SetUp(setUp), SetUp.class)
+                .runOnce();
+    }
+
+    /**
+     * Registers the tear-down for the given key, unless it was already registered by another test class.
+     * It runs once, when the root context is closed, at the end of the engine execution.
+     */
+    static void tearDown(ExtensionContext context, String key, ThrowingRunnable<Exception> tearDown) {
+        context.getRoot().getStore(TEAR_DOWN).getOrComputeIfAbsent(key, __ -> new TearDown(tearDown));
+    }
+
+    private static final class SetUp {
+        private final ThrowingRunnable<Exception> setUp;
+        private boolean done;
+        private Exception failure;
+
+        SetUp(ThrowingRunnable<Exception> setUp) {
+            this.setUp = setUp;
+        }
+
+        synchronized void runOnce() throws Exception {
+            if (!done) {
+                done = true;
+                try {
+                    setUp.run();
+                } catch (Exception e) {
+                    failure = e;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private record TearDown(ThrowingRunnable<Exception> tearDown) implements CloseableResource {
+        @Override
+        public void close() throws Throwable {
+            tearDown.run();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.etr.junit.lambdas;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per-test overhead of running the {@code @DoBeforeEach} hooks of a test class.
+ *
+ * <p>The {@code reflective} benchmark replicates the previous implementation, which scanned the fields
+ * and looked up the methods to invoke before every test. It can be run with:
+ *
+ * <pre>{@code
+ * mvn -pl junit-lambdas test-compile exec:exec \
+ *     -Dexec.classpathScope=test \
+ *     -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main HookPlanBenchmark"
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HookPlanBenchmark {
+
+    private final SampleTest testInstance = new SampleTest();
+
+    @Benchmark
+    public SampleTest reflective() throws Exception {
+        for (Field field : SampleTest.class.getDeclaredFields()) {
+            DoBeforeEach annotation = field.getAnnotation(DoBeforeEach.class);
+            if (annotation == null) {
+                continue;
+            }
+            field.setAccessible(true);
+            Object target = field.get(testInstance);
+            if (annotation.invoke().isEmpty()) {
+                ((Runnable) target).run();
+            } else {
+                Method method = target.getClass().getDeclaredMethod(annotation.invoke());
+                method.setAccessible(true);
+                method.invoke(target);
+            }
+        }
+        return testInstance;
+    }
+
+    @Benchmark
+    public SampleTest hookPlan() throws Exception {
+        Optional<Object> instance = Optional.of(testInstance);
+        for (HookPlan.Hook hook : HookPlan.of(SampleTest.class).hooks(DoBeforeEach.class)) {
+            hook.invoke(instance);
+        }
+        return testInstance;
+    }
+
+    static class SampleTest {
+
+        @DoBeforeEach(invoke = "reset")
+        Counter first = new Counter();
+
+        @DoBeforeEach(invoke = "reset")
+        Counter second = new Counter();
+
+        @DoBeforeEach
+        Runnable third = first::increment;
+
+        @DoBeforeEach
+        Runnable fourth = second::increment;
+
+        String notAHook = "ignored";
+
+        int alsoNotAHook = 42;
+    }
+
+    static class Counter {
+        private int value;
+
+        void increment() {
+            value++;
+        }
+
+        void reset() {
+            value = 0;
+        }
+    }
+}
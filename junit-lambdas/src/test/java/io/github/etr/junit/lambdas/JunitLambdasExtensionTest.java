@@ -0,0 +1,563 @@
+package io.github.etr.junit.lambdas;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.testkit.engine.EngineExecutionResults;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+@ExtendWith(JunitLambdasExtension.class)
+class JunitLambdasExtensionTest {
+
+    @DoBeforeEach(invoke = "reset")
+    static SpecialCounter counter = new SpecialCounter();
+
+    @DoBeforeEach(invoke = "clear")
+    static List<String> synchronizedList = Collections.synchronizedList(new ArrayList<>());
+
+    @DoBeforeEach(invoke = "resetAll")
+    static StaticallyReset staticallyReset = new StaticallyReset();
+
+    static CountDownLatch slowFixtures = new CountDownLatch(2);
+    static boolean firstSlowFixtureDone;
+
+    @DoBeforeAll(parallel = true)
+    static ThrowingRunnable<InterruptedException> firstSlowFixture = () -> {
+        slowFixtures.countDown();
+        firstSlowFixtureDone = slowFixtures.await(5, SECONDS);
+    };
+
+    @DoBeforeAll(parallel = true)
+    static ThrowingRunnable<InterruptedException> secondSlowFixture = () -> slowFixtures.countDown();
+
+    @Test
+    void shouldInvokeStaticMethodsOfFieldValues() {
+        assertThat(StaticallyReset.reset).isTrue();
+    }
+
+    @Test
+    void shouldRunParallelHooksConcurrently() {
+        // the first fixture can only complete if the second one runs in the meantime
+        assertThat(firstSlowFixtureDone).isTrue();
+    }
+
+    static AtomicInteger sharedFixtureSetUps = new AtomicInteger();
+
+    @Nested
+    class FirstClassUsingSharedFixture {
+
+        @DoBeforeAll(scope = Scope.ENGINE, key = "shared-fixture")
+        static Runnable setUp = sharedFixtureSetUps::incrementAndGet;
+
+        @Test
+        void shouldSetUpSharedFixtureOnce() {
+            assertThat(sharedFixtureSetUps).hasValue(1);
+        }
+    }
+
+    @Nested
+    class SecondClassUsingSharedFixture {
+
+        @DoBeforeAll(scope = Scope.ENGINE, key = "shared-fixture")
+        static Runnable setUp = sharedFixtureSetUps::incrementAndGet;
+
+        @Test
+        void shouldSetUpSharedFixtureOnce() {
+            assertThat(sharedFixtureSetUps).hasValue(1);
+        }
+    }
+
+    @Test
+    void shouldReportHookTimingsWhenEnabled(@TempDir Path tempDir) {
+        Path report = tempDir.resolve("timings.json");
+        TimedClass.timings.clear();
+
+        EngineExecutionResults results = EngineTestKit.engine("junit-jupiter")
+                .configurationParameter(HookTimings.ENABLED, "true")
+                .configurationParameter(HookTimings.REPORT, report.toString())
+                .selectors(classSelectors(TimedClass.class))
+                .execute();
+
+        assertThat(results.testEvents().succeeded().count()).isEqualTo(2);
+        assertThat(TimedClass.timings).hasSize(2).doesNotContainNull();
+        assertThat(results.allEvents().reportingEntryPublished().stream()
+                        .map(event ->
+                                event.getRequiredPayload(ReportEntry.class).getKeyValuePairs()))
+                .hasSize(2)
+                .allSatisfy(entry -> assertThat(entry)
+                        .hasEntrySatisfying("junit-lambdas.DoBeforeEach.setUp", value -> assertThat(value)
+                                .matches("\\d+ns")));
+        assertThat(report)
+                .content()
+                .contains("{\"testClass\": \"%s\", \"hook\": \"DoBeforeEach\", \"field\": \"setUp\", \"count\": 2, "
+                        .formatted(TimedClass.class.getName()))
+                .containsPattern("\"totalNanos\": \\d+, \"p50Nanos\": \\d+, \"p99Nanos\": \\d+}");
+    }
+
+    @Test
+    void shouldNotTimeHooksByDefault(@TempDir Path tempDir) {
+        Path report = tempDir.resolve("timings.json");
+        TimedClass.timings.clear();
+
+        EngineExecutionResults results = EngineTestKit.engine("junit-jupiter")
+                .configurationParameter(HookTimings.REPORT, report.toString())
+                .selectors(classSelectors(TimedClass.class))
+                .execute();
+
+        assertThat(results.testEvents().succeeded().count()).isEqualTo(2);
+        assertThat(TimedClass.timings).hasSize(2).containsOnlyNulls();
+        assertThat(results.allEvents().reportingEntryPublished().count()).isZero();
+        assertThat(report).doesNotExist();
+    }
+
+    @Test
+    void shouldPrefetchFixturesOfNextClass() {
+        SummaryGeneratingListener summary = new SummaryGeneratingListener();
+
+        LauncherFactory.create().execute(prefetching(FirstPrefetchingClass.class, PrefetchedClass.class), summary);
+
+        assertThat(summary.getSummary().getTestsSucceededCount()).isEqualTo(2);
+        assertThat(PrefetchedClass.setUps).hasValue(1);
+    }
+
+    @Test
+    void shouldAwaitPrefetchedHooksOfNextClass() throws Exception {
+        TestPlan testPlan =
+                LauncherFactory.create().discover(prefetching(FirstListenedClass.class, SecondListenedClass.class));
+        PrefetchingListener listener = new PrefetchingListener();
+        listener.testPlanExecutionStarted(testPlan);
+
+        listener.executionStarted(classIdentifier(testPlan, FirstListenedClass.class));
+
+        assertThat(runsInline(SecondListenedClass.class)).isFalse();
+        listener.testPlanExecutionFinished(testPlan);
+    }
+
+    @Test
+    void shouldNotPrefetchClassesWhichAlreadyStarted() throws Exception {
+        TestPlan testPlan =
+                LauncherFactory.create().discover(prefetching(FirstListenedClass.class, SecondListenedClass.class));
+        PrefetchingListener listener = new PrefetchingListener();
+        listener.testPlanExecutionStarted(testPlan);
+
+        listener.executionStarted(classIdentifier(testPlan, SecondListenedClass.class));
+        listener.executionStarted(classIdentifier(testPlan, FirstListenedClass.class));
+
+        assertThat(runsInline(SecondListenedClass.class)).isTrue();
+        listener.testPlanExecutionFinished(testPlan);
+    }
+
+    @Test
+    void shouldCancelPrefetchedHooksOfSkippedClasses() throws Exception {
+        TestPlan testPlan =
+                LauncherFactory.create().discover(prefetching(FirstListenedClass.class, SecondListenedClass.class));
+        PrefetchingListener listener = new PrefetchingListener();
+        listener.testPlanExecutionStarted(testPlan);
+
+        listener.executionStarted(classIdentifier(testPlan, FirstListenedClass.class));
+        listener.executionSkipped(classIdentifier(testPlan, SecondListenedClass.class), "disabled");
+
+        assertThat(runsInline(SecondListenedClass.class)).isTrue();
+        listener.testPlanExecutionFinished(testPlan);
+    }
+
+    static AtomicInteger createdFixtures = new AtomicInteger();
+    static AtomicInteger closedFixtures = new AtomicInteger();
+
+    @Fixture
+    static Lazy<AutoCloseable> fixture = Lazy.of(() -> {
+        createdFixtures.incrementAndGet();
+        return closedFixtures::incrementAndGet;
+    });
+
+    @RepeatedTest(3)
+    void shouldCreateAndReleaseFixtureForEachTestUsingIt() {
+        int created = createdFixtures.get();
+        assertThat(fixture.isInitialized()).isFalse();
+        assertThat(closedFixtures).hasValue(created);
+
+        fixture.get();
+        fixture.get();
+        assertThat(createdFixtures).hasValue(created + 1);
+    }
+
+    static AtomicInteger pooledCounters = new AtomicInteger();
+
+    @Fixture(lifecycle = Lifecycle.ALL)
+    @DoAfterEach(invoke = "reset")
+    static Pool<Counter> pooledCounter = Pool.of(2, () -> {
+        pooledCounters.incrementAndGet();
+        return new Counter();
+    });
+
+    @RepeatedTest(3)
+    void shouldReuseAndResetPooledFixture() {
+        assertThat(pooledCounter.get().value).isZero();
+        pooledCounter.get().increment();
+        assertThat(pooledCounters).hasValue(1);
+    }
+
+    @Test
+    void shouldReclaimPooledFixtureLeasedByTerminatedThread() throws Exception {
+        Pool<Counter> pool = Pool.of(1, Duration.ofSeconds(5), Counter::new);
+        Thread separateThread = new Thread(pool::get);
+        separateThread.start();
+        separateThread.join();
+
+        assertThat(pool.get()).isNotNull();
+        pool.returnLease();
+    }
+
+    @Test
+    void shouldFailWhenNoPooledFixtureIsReturnedInTime() throws Exception {
+        Pool<Counter> pool = Pool.of(1, Duration.ofMillis(50), Counter::new);
+        pool.get();
+
+        CompletableFuture<Counter> lease = CompletableFuture.supplyAsync(pool::get);
+
+        assertThat(lease)
+                .failsWithin(5, SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOf(IllegalStateException.class)
+                .withMessageStartingWith("No pooled fixture was returned within PT0.05S");
+        pool.returnLease();
+    }
+
+    @Test
+    void shouldCloseLeasedPooledFixturesWithThePool() throws Exception {
+        AtomicInteger closed = new AtomicInteger();
+        Pool<AutoCloseable> pool = Pool.of(2, () -> closed::incrementAndGet);
+        pool.get();
+        CompletableFuture.runAsync(pool::get).get(5, SECONDS);
+
+        pool.close();
+
+        assertThat(closed).hasValue(2);
+    }
+
+    @Test
+    void shouldClosePooledFixturesOfEachTestInstance() {
+        PooledPerInstanceClass.closed.set(0);
+
+        EngineExecutionResults results = execute(PooledPerInstanceClass.class);
+
+        assertThat(results.testEvents().succeeded().count()).isEqualTo(2);
+        assertThat(PooledPerInstanceClass.closed).hasValue(2);
+    }
+
+    @Nested
+    class ClosingResources {
+
+        static CountDownLatch closing;
+
+        @DoBeforeEach
+        static Runnable newLatch = () -> closing = new CountDownLatch(2);
+
+        @DoClose(lifecycle = Lifecycle.EACH)
+        static AutoCloseable first = ClosingResources::awaitOtherResource;
+
+        @DoClose(lifecycle = Lifecycle.EACH)
+        static AutoCloseable second = ClosingResources::awaitOtherResource;
+
+        @RepeatedTest(2)
+        void shouldCloseResourcesConcurrently() {
+            // the resources can only be closed if they are closed concurrently
+            assertThat(closing.getCount()).isEqualTo(2);
+        }
+
+        private static void awaitOtherResource() throws InterruptedException {
+            closing.countDown();
+            if (!closing.await(5, SECONDS)) {
+                throw new IllegalStateException("The resources were not closed concurrently");
+            }
+        }
+    }
+
+    @RepeatedTest(3)
+    void shouldInvokeInheritedMethod() {
+        assertThat(counter.value).isZero();
+        counter.increment();
+    }
+
+    @RepeatedTest(3)
+    void shouldInvokePublicMethodOfInaccessibleClass() {
+        assertThat(synchronizedList).isEmpty();
+        synchronizedList.add("test");
+    }
+
+    @Test
+    void shouldUseGeneratedHookDispatch() {
+        HookDispatch dispatch = HookPlan.dispatch(JunitLambdasExtensionTest.class);
+
+        assertThat(dispatch).isNotNull();
+        assertThat(dispatch.reader("counter")).isNotNull();
+        assertThat(dispatch.call("synchronizedList", "clear")).isNotNull();
+        // private methods are still invoked reflectively
+        assertThat(dispatch.call("counter", "reset")).isNull();
+    }
+
+    @Test
+    void shouldGenerateHookDispatchForNestedClassesWithSimilarNames() {
+        assertThat(HookPlan.dispatch(Dispatched.Nested.class).reader("nested")).isNotNull();
+        assertThat(HookPlan.dispatch(Dispatched_Nested.class).reader("flat")).isNotNull();
+    }
+
+    @Test
+    void shouldTearDownSharedFixtureOnceAtTheEnd() {
+        EngineExecutionResults results = execute(FirstEngineScopedClass.class, SecondEngineScopedClass.class);
+
+        assertThat(results.testEvents().succeeded().count()).isEqualTo(2);
+        assertThat(engineScopedEvents).containsExactly("set up", "first test", "second test", "tear down");
+    }
+
+    @Test
+    void shouldRethrowFailedSharedSetUpToEveryClass() {
+        EngineExecutionResults results = execute(FirstFailingClass.class, SecondFailingClass.class);
+
+        assertThat(failingSetUps).hasValue(1);
+        assertThat(results.testEvents().started().count()).isZero();
+        assertThat(results.containerEvents().failed().stream().map(event -> event.getPayload(TestExecutionResult.class)
+                        .flatMap(TestExecutionResult::getThrowable)
+                        .orElseThrow()))
+                .hasSize(2)
+                .allSatisfy(failure -> assertThat(failure).hasMessage("Shared set-up failed"));
+    }
+
+    static class Counter {
+        int value;
+
+        void increment() {
+            value++;
+        }
+
+        private void reset() {
+            value = 0;
+        }
+    }
+
+    static class SpecialCounter extends Counter {}
+
+    static class Dispatched {
+        static class Nested {
+            @DoBeforeEach
+            static Runnable nested = () -> {};
+        }
+    }
+
+    static class Dispatched_Nested {
+        @DoBeforeEach
+        static Runnable flat = () -> {};
+    }
+
+    static class StaticallyReset {
+        static volatile boolean reset;
+
+        static void resetAll() {
+            reset = true;
+        }
+    }
+
+    static EngineExecutionResults execute(Class<?>... testClasses) {
+        return EngineTestKit.engine("junit-jupiter")
+                .selectors(classSelectors(testClasses))
+                .execute();
+    }
+
+    static LauncherDiscoveryRequest prefetching(Class<?>... testClasses) {
+        return LauncherDiscoveryRequestBuilder.request()
+                .selectors(classSelectors(testClasses))
+                .configurationParameter(PrefetchingListener.ENABLED, "true")
+                .build();
+    }
+
+    static DiscoverySelector[] classSelectors(Class<?>... testClasses) {
+        return Arrays.stream(testClasses).map(DiscoverySelectors::selectClass).toArray(DiscoverySelector[]::new);
+    }
+
+    static TestIdentifier classIdentifier(TestPlan testPlan, Class<?> testClass) {
+        return testPlan.getRoots().stream()
+                .flatMap(root -> testPlan.getDescendants(root).stream())
+                .filter(it -> it.getSource().equals(Optional.of(ClassSource.from(testClass))))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Returns whether the prefetched hook of the given class runs in the calling thread, as it was not prefetched.
+     */
+    static boolean runsInline(Class<?> testClass) throws Exception {
+        HookPlan.Hook hook = HookPlan.of(testClass).hooks(DoBeforeAll.class).get(0);
+        AtomicBoolean inline = new AtomicBoolean();
+        PrefetchingListener.await(hook, () -> inline.set(true));
+        return inline.get();
+    }
+
+    @ExtendWith(JunitLambdasExtension.class)
+    static class PooledPerInstanceClass {
+
+        static AtomicInteger closed = new AtomicInteger();
+
+        @Fixture(lifecycle = Lifecycle.ALL)
+        Pool<AutoCloseable> pool = Pool.of(1, () -> closed::incrementAndGet);
+
+        @Test
+        void first() {
+            pool.get();
+        }
+
+        @Test
+        void second() {
+            pool.get();
+        }
+    }
+
+    @ExtendWith(JunitLambdasExtension.class)
+    static class TimedClass {
+
+        static List<HookTimings> timings = Collections.synchronizedList(new ArrayList<>());
+
+        @RegisterExtension
+        static BeforeEachCallback captureTimings = context -> timings.add(HookTimings.of(context));
+
+        @DoBeforeEach
+        static Runnable setUp = () -> {};
+
+        @Test
+        void first() {}
+
+        @Test
+        void second() {}
+    }
+
+    @ExtendWith(JunitLambdasExtension.class)
+    static class FirstPrefetchingClass {
+
+        @Test
+        void test() {}
+    }
+
+    @ExtendWith(JunitLambdasExtension.class)
+    static class PrefetchedClass {
+
+        static AtomicInteger setUps = new AtomicInteger();
+        static volatile boolean prefetched;
+
+        @DoBeforeAll(prefetch = true)
+        static Runnable setUp = () -> {
+            setUps.incrementAndGet();
+            prefetched = Thread.currentThread().isVirtual();
+        };
+
+        @Test
+        void shouldStartFixtureInTheBackground() {
+            assertThat(prefetched).isTrue();
+        }
+    }
+
+    @ExtendWith(JunitLambdasExtension.class)
+    static class FirstListenedClass {
+
+        @Test
+        void test() {}
+    }
+
+    @ExtendWith(JunitLambdasExtension.class)
+    static class SecondListenedClass {
+
+        @DoBeforeAll(prefetch = true)
+        static Runnable setUp = () -> {};
+
+        @Test
+        void test() {}
+    }
+
+    static List<String> engineScopedEvents = Collections.synchronizedList(new ArrayList<>());
+
+    @ExtendWith(JunitLambdasExtension.class)
+    static class FirstEngineScopedClass {
+
+        @DoBeforeAll(scope = Scope.ENGINE, key = "engine-scoped")
+        static Runnable setUp = () -> engineScopedEvents.add("set up");
+
+        @DoAfterAll(scope = Scope.ENGINE, key = "engine-scoped")
+        static Runnable tearDown = () -> engineScopedEvents.add("tear down");
+
+        @Test
+        void test() {
+            engineScopedEvents.add("first test");
+        }
+    }
+
+    @ExtendWith(JunitLambdasExtension.class)
+    static class SecondEngineScopedClass {
+
+        @DoBeforeAll(scope = Scope.ENGINE, key = "engine-scoped")
+        static Runnable setUp = () -> engineScopedEvents.add("set up");
+
+        @DoAfterAll(scope = Scope.ENGINE, key = "engine-scoped")
+        static Runnable tearDown = () -> engineScopedEvents.add("tear down");
+
+        @Test
+        void test() {
+            engineScopedEvents.add("second test");
+        }
+    }
+
+    static AtomicInteger failingSetUps = new AtomicInteger();
+
+    static final Runnable FAILING_SET_UP = () -> {
+        failingSetUps.incrementAndGet();
+        throw new IllegalStateException("Shared set-up failed");
+    };
+
+    @ExtendWith(JunitLambdasExtension.class)
+    static class FirstFailingClass {
+
+        @DoBeforeAll(scope = Scope.ENGINE, key = "failing")
+        static Runnable setUp = FAILING_SET_UP;
+
+        @Test
+        void test() {}
+    }
+
+    @ExtendWith(JunitLambdasExtension.class)
+    static class SecondFailingClass {
+
+        @DoBeforeAll(scope = Scope.ENGINE, key = "failing")
+        static Runnable setUp = FAILING_SET_UP;
+
+        @Test
+        void test() {}
+    }
+}